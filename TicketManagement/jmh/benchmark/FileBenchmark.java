@@ -0,0 +1,234 @@
+package benchmark;
+
+import booking.Booking;
+import booking.BookingIndex;
+import booking.ReservationEngine;
+import concert.Concert;
+import file.CsvReader;
+import file.FileLoader;
+import file.FileSaver;
+import ticket.TicketStore;
+import user.Customer;
+import venue.SeatMap;
+import venue.Venue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The FileBenchmark class measures parsing, loading and saving the data files.
+ * Each trial runs on a data set produced by {@link DataGenerator} with the given number of bookings,
+ * and every operation covers the whole data set, so the scores show how each path scales.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class FileBenchmark {
+
+    /**
+     * The number of bookings in the data set.
+     */
+    @Param({"10000", "100000", "1000000"})
+    private int bookings;
+
+    /**
+     * The directory holding the generated data set.
+     */
+    private File directory;
+
+    /**
+     * The directory the data set is saved to.
+     */
+    private File saved;
+
+    /**
+     * The lines of the booking file.
+     */
+    private List<String> bookingLines;
+
+    /**
+     * The lines of the concert file.
+     */
+    private List<String> concertLines;
+
+    /**
+     * The customers loaded from the data set.
+     */
+    private final List<Customer> loadedCustomers = new ArrayList<>();
+
+    /**
+     * The concerts loaded from the data set.
+     */
+    private final List<Concert> loadedConcerts = new ArrayList<>();
+
+    /**
+     * The bookings loaded from the data set.
+     */
+    private final List<Booking> loadedBookings = new ArrayList<>();
+
+    /**
+     * The index owning the ticket stores the parsed bookings are appended to.
+     */
+    private final BookingIndex parsedIndex = new BookingIndex();
+
+    /**
+     * The loader whose booking parser is measured.
+     */
+    private FileLoader parser;
+
+    /**
+     * Generates and loads the data set.
+     *
+     * @throws IOException if the data set cannot be written or read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("tms-bench").toFile();
+        saved = Files.createTempDirectory("tms-bench-save").toFile();
+        new DataGenerator(42).generate(directory, bookings);
+        bookingLines = Files.readAllLines(new File(directory, "bookings.csv").toPath(), Charset.defaultCharset());
+        concertLines = Files.readAllLines(new File(directory, "concert.csv").toPath(), Charset.defaultCharset());
+        load(directory, loadedCustomers, loadedConcerts, loadedBookings);
+        parser = new FileLoader(null, null, null, null, null, null, null, null, parsedIndex, null);
+    }
+
+    /**
+     * Closes the loader and deletes the generated and saved data sets.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        parser.close();
+        delete(saved);
+        delete(directory);
+    }
+
+    /**
+     * Measures {@link FileLoader#parseBooking(CsvReader, TicketStore)} over every line of the booking file.
+     * The concerts' ticket stores are emptied afterwards, so they do not grow from one invocation to the next.
+     *
+     * @param blackhole the sink of the parsed bookings
+     * @throws Exception if a line cannot be parsed
+     */
+    @Benchmark
+    public void parseBooking(Blackhole blackhole) throws Exception {
+        CsvReader fields = new CsvReader();
+        TicketStore staged = new TicketStore();
+        for (String line : bookingLines) {
+            fields.reset(line);
+            blackhole.consume(parser.parseBooking(fields, staged));
+        }
+        for (Concert concert : loadedConcerts) {
+            parsedIndex.getTicketStore(concert.getConcertId()).clear();
+        }
+    }
+
+    /**
+     * Measures {@link FileLoader#parseConcert(CsvReader)} over every line of the concert file.
+     *
+     * @param blackhole the sink of the parsed concerts
+     * @throws Exception if a line cannot be parsed
+     */
+    @Benchmark
+    public void parseConcert(Blackhole blackhole) throws Exception {
+        CsvReader fields = new CsvReader();
+        for (String line : concertLines) {
+            fields.reset(line);
+            blackhole.consume(FileLoader.parseConcert(fields));
+        }
+    }
+
+    /**
+     * Measures loading the data set the way the engine does at startup.
+     *
+     * @return the loaded bookings
+     */
+    @Benchmark
+    public List<Booking> load() {
+        List<Booking> loaded = new ArrayList<>();
+        load(directory, new ArrayList<Customer>(), new ArrayList<Concert>(), loaded);
+        return loaded;
+    }
+
+    /**
+     * Measures {@link FileSaver#save()} of the loaded data set.
+     *
+     * @throws IOException if a file cannot be written
+     */
+    @Benchmark
+    public void save() throws IOException {
+        new FileSaver(new File(saved, "customer.csv").getPath(), loadedCustomers, new File(saved, "concert.csv").getPath(),
+                loadedConcerts, new File(saved, "bookings.csv").getPath(), loadedBookings).save();
+    }
+
+    /**
+     * Loads a data set the way the engine does at startup.
+     *
+     * @param directory the directory holding the data set
+     * @param customers the list the customers are added to
+     * @param concerts the list the concerts are added to
+     * @param bookings the list the bookings are added to
+     */
+    private static void load(File directory, List<Customer> customers, List<Concert> concerts, List<Booking> bookings) {
+        BookingIndex bookingIndex = new BookingIndex();
+        ReservationEngine engine = new ReservationEngine(bookings, bookingIndex, new ConcurrentHashMap<String, SeatMap>());
+        List<String> venueFilePaths = new ArrayList<>();
+        for (File file : directory.listFiles()) {
+            if (file.getName().startsWith("venue_")) {
+                venueFilePaths.add(file.getPath());
+            }
+        }
+        try (FileLoader loader = new FileLoader(new File(directory, "customer.csv").getPath(), customers,
+                new File(directory, "concert.csv").getPath(), concerts, new File(directory, "bookings.csv").getPath(),
+                bookings, venueFilePaths, new HashMap<String, Venue>(), bookingIndex, engine)) {
+            loader.start();
+            loader.loadCustomers();
+            loader.loadConcerts();
+            loader.loadBookings();
+            loader.loadVenues();
+        }
+    }
+
+    /**
+     * Deletes a directory of data files.
+     *
+     * @param directory the directory to delete
+     * @throws IOException if a file cannot be deleted
+     */
+    private static void delete(File directory) throws IOException {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.delete(file.toPath());
+            }
+        }
+        Files.delete(directory.toPath());
+    }
+}
@@ -0,0 +1,110 @@
+package benchmark;
+
+import venue.SeatMap;
+import venue.Venue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The LayoutBenchmark class measures {@link Venue#print(SeatMap)} of a venue with a share of its seats booked.
+ * The console is replaced by a stream that discards its output for the whole trial, so only rendering
+ * and writing the layout is measured, not the terminal.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LayoutBenchmark {
+
+    /**
+     * The number of seats of the venue.
+     */
+    @Param({"10000", "100000", "1000000"})
+    private int seats;
+
+    /**
+     * The percentage of seats booked.
+     */
+    @Param({"50"})
+    private int booked;
+
+    /**
+     * The venue.
+     */
+    private Venue venue;
+
+    /**
+     * The occupancy of the venue's seats.
+     */
+    private SeatMap seatMap;
+
+    /**
+     * The console, restored after the trial.
+     */
+    private PrintStream console;
+
+    /**
+     * Builds the venue, books its seats at random and silences the console.
+     */
+    @Setup
+    public void setUp() {
+        venue = Venues.ofSize(seats);
+        seatMap = new SeatMap(venue);
+        Random random = new Random(1);
+        for (int type = 0; type < 3; type++) {
+            for (int i = 0; i < seatMap.getRows(type); i++) {
+                for (int j = 0; j < seatMap.getWidth(); j++) {
+                    if (random.nextInt(100) < booked) {
+                        seatMap.book(type, i, j);
+                    }
+                }
+            }
+        }
+        console = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+    }
+
+    /**
+     * Restores the console.
+     */
+    @TearDown
+    public void tearDown() {
+        System.setOut(console);
+    }
+
+    /**
+     * Measures printing the layout.
+     */
+    @Benchmark
+    public void print() {
+        venue.print(seatMap);
+    }
+}
@@ -0,0 +1,98 @@
+package benchmark;
+
+import concert.Concert;
+import concert.PriceTable;
+import venue.Venue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The PriceBenchmark class measures pricing every seat of a venue, through {@link Concert#getSeatPrice(int, int, Venue)}
+ * and through a {@link PriceTable} fetched once per venue.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PriceBenchmark {
+
+    /**
+     * The number of seats of the venue.
+     */
+    @Param({"10000", "100000", "1000000"})
+    private int seats;
+
+    /**
+     * The venue.
+     */
+    private Venue venue;
+
+    /**
+     * The concert.
+     */
+    private Concert concert;
+
+    /**
+     * Builds the venue and the concert.
+     */
+    @Setup
+    public void setUp() {
+        venue = Venues.ofSize(seats);
+        concert = Venues.concert();
+    }
+
+    /**
+     * Measures {@link Concert#getSeatPrice(int, int, Venue)} for every seat.
+     *
+     * @return the total price of the seats
+     */
+    @Benchmark
+    public double getSeatPrice() {
+        int width = venue.getLeft() + venue.getMiddle() + venue.getRight();
+        double total = 0;
+        for (int type = 0; type < 3; type++) {
+            for (int row = 0; row < Venues.rows(venue, type); row++) {
+                for (int seat = 1; seat <= width; seat++) {
+                    total += concert.getSeatPrice(type, seat, venue);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Measures {@link PriceTable#getCents(int, int)} for every seat.
+     *
+     * @return the total price of the seats in cents
+     */
+    @Benchmark
+    public long getCents() {
+        int width = venue.getLeft() + venue.getMiddle() + venue.getRight();
+        PriceTable prices = concert.getPriceTable(venue);
+        long total = 0;
+        for (int type = 0; type < 3; type++) {
+            for (int row = 0; row < Venues.rows(venue, type); row++) {
+                for (int seat = 1; seat <= width; seat++) {
+                    total += prices.getCents(type, seat);
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,142 @@
+package benchmark;
+
+import booking.Booking;
+import booking.BookingIndex;
+import booking.ReservationEngine;
+import concert.Concert;
+import exception.SeatUnavailableException;
+import venue.SeatMap;
+import venue.Venue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ReservationBenchmark class measures {@link ReservationEngine#reserve} with several threads booking
+ * runs of one to four seats at random on the same concert. The concert starts empty at every iteration,
+ * so the score mixes successful bookings with the conflicts that grow as the venue fills up;
+ * the smaller the venue, the sooner attempts conflict.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(4)
+public class ReservationBenchmark {
+
+    /**
+     * The number of seats of the venue.
+     */
+    @Param({"10000", "100000", "1000000"})
+    private int seats;
+
+    /**
+     * The venue.
+     */
+    private Venue venue;
+
+    /**
+     * The concert.
+     */
+    private Concert concert;
+
+    /**
+     * The engine booking the concert.
+     */
+    private ReservationEngine engine;
+
+    /**
+     * Builds the venue and the concert.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        venue = Venues.ofSize(seats);
+        concert = Venues.concert();
+    }
+
+    /**
+     * Empties the concert.
+     */
+    @Setup(Level.Iteration)
+    public void clear() {
+        Map<String, SeatMap> seatMaps = new ConcurrentHashMap<>();
+        seatMaps.put(concert.getConcertId(), new SeatMap(venue));
+        engine = new ReservationEngine(new ArrayList<Booking>(), new BookingIndex(), seatMaps);
+    }
+
+    /**
+     * Measures one attempt to book a random run of seats.
+     *
+     * @param customer the customer booking
+     * @return the booking, or null if the seats were taken
+     */
+    @Benchmark
+    public Booking reserve(Customer customer) {
+        Random random = customer.random;
+        int type = random.nextInt(3);
+        int number = 1 + random.nextInt(4);
+        int width = venue.getLeft() + venue.getMiddle() + venue.getRight();
+        try {
+            return engine.reserve(concert, venue, customer.customerId, "Customer", type,
+                    1 + random.nextInt(Venues.rows(venue, type)), 1 + random.nextInt(width - number + 1), number);
+        } catch (SeatUnavailableException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The state of each booking thread.
+     */
+    @State(Scope.Thread)
+    public static class Customer {
+
+        /**
+         * The last customer ID handed out.
+         */
+        private static int lastCustomerId;
+
+        /**
+         * The ID of the customer.
+         */
+        private String customerId;
+
+        /**
+         * The source of the seats requested, seeded per thread.
+         */
+        private Random random;
+
+        /**
+         * Assigns the thread its customer ID and seed.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            int id;
+            synchronized (Customer.class) {
+                id = ++lastCustomerId;
+            }
+            customerId = String.valueOf(id);
+            random = new Random(id);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import concert.Concert;
+import venue.Venue;
+
+/**
+ * The Venues class builds the venues and concert shared by the seat benchmarks.
+ * Venues have the sections of the generated venues, 10 + 30 + 10 seats wide, and as many rows
+ * as the requested number of seats needs, split between VIP, seating and standing like the generated venues.
+ *
+ * @version 1.0
+ */
+final class Venues {
+
+    /**
+     * The number of seats in the left section of a row.
+     */
+    private static final int LEFT = 10;
+
+    /**
+     * The number of seats in the middle section of a row.
+     */
+    private static final int MIDDLE = 30;
+
+    /**
+     * The number of seats in the right section of a row.
+     */
+    private static final int RIGHT = 10;
+
+    /**
+     * Prevents instantiation.
+     */
+    private Venues() {
+    }
+
+    /**
+     * Returns a venue with about the given number of seats.
+     *
+     * @param seats the number of seats
+     * @return the venue
+     */
+    static Venue ofSize(int seats) {
+        int rows = Math.max(7, seats / (LEFT + MIDDLE + RIGHT));
+        int vip = Math.max(1, rows / 7);
+        int seating = Math.max(1, rows * 2 / 7);
+        return new Venue(vip, seating, rows - vip - seating, LEFT, MIDDLE, RIGHT);
+    }
+
+    /**
+     * Returns a concert priced in every section of every zone.
+     *
+     * @return the concert
+     */
+    static Concert concert() {
+        return new Concert("1", "2024-10-01", "1900", "Artist", "MCG",
+                "STANDING:99.0:149.0:99.0:SEATING:199.0:259.0:199.0:VIP:359.0:499.0:359.0");
+    }
+
+    /**
+     * Returns the number of rows of a zone of a venue.
+     *
+     * @param venue the venue
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @return the number of rows
+     */
+    static int rows(Venue venue, int type) {
+        return type == 0 ? venue.getVip() : type == 1 ? venue.getSeating() : venue.getStanding();
+    }
+}
@@ -1,22 +1,25 @@
 import booking.Booking;
-import com.apple.eawt.Application;
+import booking.SeatFinder;
 import concert.Concert;
-import user.Customer;
-import exception.IncorrectPasswordException;
+import concert.PriceSnapshot;
 import exception.InvalidFormatException;
-import exception.InvalidLineException;
 import exception.NotFoundException;
-import file.FileSaver;
+import metrics.Metrics;
+import server.TicketServer;
+import service.BatchRunner;
+import service.BookingResult;
+import service.ConcertSummary;
+import service.TicketService;
 import ticket.Ticket;
-import venue.Venue;
+import ticket.Zone;
 import utils.Constants;
 
 import java.io.*;
 import java.util.*;
 /**
- * The TicketManagementEngine class is responsible for managing the core functionality
- * of the ticket management system, including handling user authentication and managing
- * bookings, concerts, customers, and venues.
+ * The TicketManagementEngine class is the command-line front end of the ticket management system.
+ * It parses the arguments, authenticates the user and runs the interactive customer and admin menus,
+ * or a batch command file, on top of the {@link TicketService}.
  *
  * @version 1.0
  */
@@ -60,24 +63,9 @@ public class TicketManagementEngine {
     private List<String> venueFilePaths;
 
     /**
-     * The list of bookings in the system.
+     * The service holding the system's data and operations.
      */
-    private ArrayList<Booking> bookings;
-
-    /**
-     * The list of concerts in the system.
-     */
-    private ArrayList<Concert> concerts;
-
-    /**
-     * The list of customers in the system.
-     */
-    private ArrayList<Customer> customers;
-
-    /**
-     * The map of venue names to Venue objects.
-     */
-    private Map<String, Venue> venues;
+    private TicketService service;
 
     /**
      * The main method serves as the entry point for the application.
@@ -91,17 +79,14 @@ public class TicketManagementEngine {
         // }
         // System.out.println();
 
-        if (args.length == 0 || (!args[0].equals(Constants.CUSTOMER_ARGUMENT) && !args[0].equals(Constants.ADMIN_ARGUMENT))) {
+        if (args.length == 0 || (!args[0].equals(Constants.CUSTOMER_ARGUMENT) && !args[0].equals(Constants.ADMIN_ARGUMENT)
+                && !args[0].equals(Constants.BATCH_ARGUMENT) && !args[0].equals(Constants.SERVER_ARGUMENT))) {
             System.out.println("Invalid user mode. Terminating program now.");
             return;
         }
 
         TicketManagementEngine tme = new TicketManagementEngine();
         tme.venueFilePaths = new ArrayList<>();
-        tme.bookings = new ArrayList<>();
-        tme.concerts = new ArrayList<>();
-        tme.customers = new ArrayList<>();
-        tme.venues = new HashMap<>();
         tme.run(args);
     }
 
@@ -116,6 +101,15 @@ public class TicketManagementEngine {
             handleCustomerMode(args);
         } else if (args[0].equals(Constants.ADMIN_ARGUMENT)) {
             handleAdminMode(args);
+        } else if (args[0].equals(Constants.BATCH_ARGUMENT)) {
+            handleBatchMode(args);
+        } else if (args[0].equals(Constants.SERVER_ARGUMENT)) {
+            // The server keeps running after this returns, so it reports when it shuts down
+            handleServerMode(args);
+            return;
+        }
+        if (Boolean.getBoolean(Constants.METRICS_REPORT_PROPERTY)) {
+            Metrics.report(System.out);
         }
     }
 
@@ -156,14 +150,16 @@ public class TicketManagementEngine {
         }
 
         venueFilePaths.add(Constants.DEFAULT_VENUE_FILE_PATH);
-        if(!loadData())  return;
-        if (userName.equals("")) {
+        service = new TicketService(customerFilePath, concertFilePath, bookingFilePath, venueFilePaths);
+        if (!service.load(userName, password))  return;
+        if (!userName.equals("")) {
+            customerName = service.getCustomer(userName).getCustomerName();
+        } else {
             System.out.print("Enter your name: ");
             userName = Constants.KEYBOARD.nextLine();
             System.out.print("Enter your password: ");
             password = Constants.KEYBOARD.nextLine();
-            String newId = String.valueOf(Integer.parseInt(customers.get(customers.size() - 1).getCustomerId()) + 1);
-            customers.add(new Customer(newId, userName, password));
+            service.addCustomer(userName, password);
             customerName = userName;
         }
         System.out.printf("Welcome %s to Ticket Management System\n", customerName);
@@ -176,12 +172,11 @@ public class TicketManagementEngine {
             int cmd = Constants.KEYBOARD.nextInt();
             if (cmd == 0)   {
                 System.out.print("Exiting customer mode\n");
-                FileSaver fileSaver = new FileSaver(customerFilePath, customers, concertFilePath, concerts, bookingFilePath, bookings);
-                fileSaver.save();
+                service.save();
                 flag = false;
             }
             else {
-                processConcert(concerts.get(cmd - 1));
+                processConcert(service.getConcerts().get(cmd - 1));
             }
 
         }
@@ -194,27 +189,10 @@ public class TicketManagementEngine {
         System.out.println("---------------------------------------------------------------------------------------------------------------------------");
         System.out.println("#    Date           Artist Name    Timing         Venue Name                    Total Seats    Seats Booked   Seats Left     ");
         System.out.println("---------------------------------------------------------------------------------------------------------------------------");
-        for (Concert concert : concerts) {
-            String date = concert.getDate();
-            String artist = concert.getArtistName();
-            String timing = concert.getTiming();
-            String venueName = concert.getVenueName();
-            String key = venueName.toLowerCase();
-            int totalSeats = 0;
-            if (venues.containsKey(Constants.DEFAULT)) {
-                totalSeats = venues.get(Constants.DEFAULT).getTotalSeats();
-            }
-            if (venues.containsKey(key)) {
-                totalSeats = venues.get(key).getTotalSeats();
-            }
-            int seatBooked = 0;
-            for (Booking booking : bookings) {
-                if (booking.getConcertId().equals(concert.getConcertId())) {
-                    seatBooked += booking.getTotalTickets();
-                }
-            }
-            int seatLeft = totalSeats - seatBooked;
-            System.out.printf("%-5s%-15s%-15s%-15s%-30s%-15s%-15s%-15s%n", concert.getConcertId(), date, artist, timing, venueName, totalSeats, seatBooked, seatLeft);
+        for (ConcertSummary summary : service.listConcerts()) {
+            Concert concert = summary.getConcert();
+            System.out.printf("%-5s%-15s%-15s%-15s%-30s%-15s%-15s%-15s%n", concert.getConcertId(), concert.getDate(), concert.getArtistName(),
+                    concert.getTiming(), concert.getVenueName(), summary.getTotalSeats(), summary.getSeatsBooked(), summary.getSeatsLeft());
         }
         System.out.println("---------------------------------------------------------------------------------------------------------------------------");
 
@@ -229,7 +207,7 @@ public class TicketManagementEngine {
         System.out.print(Constants.INPUT);
         int cmd = Constants.KEYBOARD.nextInt();
         if (cmd == 0)   return;
-        Concert concert = concerts.get(cmd - 1);
+        Concert concert = service.getConcerts().get(cmd - 1);
         displayPrice(concert);
         Constants.KEYBOARD.nextLine();
         System.out.println("Enter the zone : VIP, SEATING, STANDING: ");
@@ -240,8 +218,13 @@ public class TicketManagementEngine {
         Double middle = Constants.KEYBOARD.nextDouble();
         System.out.print("Right zone price: ");
         Double right = Constants.KEYBOARD.nextDouble();
-        concert.setSeatPrice(zone, left, middle, right);
-
+        try {
+            service.updatePrices(concert.getConcertId(), zone, left, middle, right);
+        } catch (InvalidFormatException | NotFoundException e) {
+            System.out.println(e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Error writing file: " + e.getMessage());
+        }
     }
 
     /**
@@ -253,14 +236,8 @@ public class TicketManagementEngine {
         System.out.print(Constants.INPUT);
         int cmd = Constants.KEYBOARD.nextInt();
         if (cmd == 0)   return;
-        Concert concert = concerts.get(cmd - 1);
-        List<Booking> bookingList = new ArrayList<>();
-        for(Booking booking : bookings) {
-            if (booking.getConcertId().equals(concert.getConcertId())) {
-                bookingList.add(booking);
-            }
-        }
-        viewBookings(bookingList, concert);
+        Concert concert = service.getConcerts().get(cmd - 1);
+        viewBookings(service.getBookings(concert.getConcertId()), concert);
     }
 
     /**
@@ -272,13 +249,8 @@ public class TicketManagementEngine {
         System.out.print(Constants.INPUT);
         int cmd = Constants.KEYBOARD.nextInt();
         if (cmd == 0)   return;
-        Concert concert = concerts.get(cmd - 1);
-        Double totalPrice = 0.0;
-        for (Booking booking : bookings) {
-            if (booking.getConcertId().equals(concert.getConcertId())) {
-                totalPrice += booking.getTotalPrice();
-            }
-        }
+        Concert concert = service.getConcerts().get(cmd - 1);
+        double totalPrice = service.revenue(concert.getConcertId());
         System.out.printf("Total Price for this concert is AUD %.1f\n", totalPrice);
     }
 
@@ -296,6 +268,7 @@ public class TicketManagementEngine {
             System.out.println("Press 3 to book seats");
             System.out.println("Press 4 to view booking details");
             System.out.println("Press 5 to exit");
+            System.out.println("Press 6 to book the best available seats");
             System.out.print(Constants.INPUT);
             int cmd = Constants.KEYBOARD.nextInt();
             switch (cmd) {
@@ -315,6 +288,9 @@ public class TicketManagementEngine {
                     System.out.println("Exiting this concert");
                     flag = false;
                     break;
+                case Constants.CONCERT_BOOK_BEST_AVAILABLE:
+                    bookBestAvailable(concert);
+                    break;
                 default:
                     System.out.println(Constants.INVALID_INPUT);
             }
@@ -328,9 +304,10 @@ public class TicketManagementEngine {
      * @param concert the concert for which to display ticket prices
      */
     private void displayPrice(Concert concert) {
-        Double[] seatingPrice = concert.getSeatingPrice();
-        Double[] standingPrice = concert.getStandingPrice();
-        Double[] vipPrice = concert.getVipPrice();
+        PriceSnapshot prices = concert.getPrices();
+        Double[] seatingPrice = prices.getZonePrices(1);
+        Double[] standingPrice = prices.getZonePrices(2);
+        Double[] vipPrice = prices.getZonePrices(0);
         System.out.printf("---------- %8s ----------\n", Constants.STANDING);
         System.out.println(Constants.LEFT_SEATS + standingPrice[0]);
         System.out.println(Constants.CENTER_SEATS + standingPrice[1]);
@@ -355,17 +332,7 @@ public class TicketManagementEngine {
      * @param concert the concert for which to display the seating layout
      */
     private void displayLayout(Concert concert) {
-        List<Ticket> tickets = new ArrayList<>();
-        for(Booking booking : bookings) {
-            if (booking.getConcertId().equals(concert.getConcertId())) {
-                tickets.addAll(booking.getTickets());
-            }
-        }
-        Venue venue = venues.get(Constants.DEFAULT);
-        if (venues.containsKey(concert.getVenueName().toLowerCase())) {
-            venue = venues.get(concert.getVenueName().toLowerCase());
-        }
-        venue.print(tickets);
+        System.out.print(service.renderLayout(concert));
     }
 
     /**
@@ -374,11 +341,6 @@ public class TicketManagementEngine {
      * @param concert the concert for which to book seats
      */
     private void bookSeat(Concert concert) {
-        Venue venue = venues.get(Constants.DEFAULT);
-        if (venues.containsKey(concert.getVenueName().toLowerCase())) {
-            venue = venues.get(concert.getVenueName().toLowerCase());
-        }
-
         displayLayout(concert);
         Constants.KEYBOARD.nextLine();
         System.out.print("Enter the aisle number: ");
@@ -387,36 +349,49 @@ public class TicketManagementEngine {
         int seatNumber = Constants.KEYBOARD.nextInt();
         System.out.print("Enter the number of seats to be booked: ");
         int number = Constants.KEYBOARD.nextInt();
-        int bookingId = 0;
-        for (Booking booking : bookings) {
-            if (booking.getCustomerId().equals(userName) && booking.getConcertId().equals(concert.getConcertId())){
-                bookingId = Integer.parseInt(booking.getBookingId());
-            }
+        int rowNumber = Integer.parseInt(aisle.substring(1));
+        Zone zone = Zone.ofLabel(aisle.charAt(0));
+        if (zone == null) {
+            zone = Zone.STANDING;
         }
-        bookingId ++ ;
-        List<Ticket> tickets = new ArrayList<>();
-        for (int i = 0; i < number; i ++ ) {
-            int ticketId = i + 1;
-            int rowNumber = Integer.parseInt(aisle.substring(1));
-            int seat = seatNumber + i;
-            String zoneType = "";
-            Double price = 0.0;
-            if (aisle.charAt(0) == Constants.V) {
-                zoneType = Constants.VIP;
-                price = concert.getSeatPrice(0, seat, venue);
-            } else if (aisle.charAt(0) == Constants.S) {
-                zoneType = Constants.SEATING;
-                price = concert.getSeatPrice(1, seat, venue);
-            } else {
-                zoneType = Constants.STANDING;
-                price = concert.getSeatPrice(2, seat, venue);
+        try {
+            BookingResult result = service.book(userName, concert.getConcertId(), zone.name(), rowNumber, seatNumber, number);
+            if (!result.isSuccess()) {
+                System.out.println(result.getMessage());
             }
-            Ticket ticket = new Ticket(ticketId, rowNumber, seat, zoneType, price);
-            tickets.add(ticket);
+        } catch (IOException e) {
+            System.out.println("Error writing file: " + e.getMessage());
         }
-        Booking booking = new Booking(String.valueOf(bookingId), userName, customerName, concert.getConcertId(), number, tickets);
-        bookings.add(booking);
+    }
 
+    /**
+     * Books the best available run of adjacent seats in a zone chosen by the customer.
+     *
+     * @param concert the concert to book seats for
+     */
+    private void bookBestAvailable(Concert concert) {
+        Constants.KEYBOARD.nextLine();
+        System.out.print("Enter the zone (VIP, SEATING, STANDING): ");
+        String zone = Constants.KEYBOARD.nextLine().trim().toUpperCase();
+        System.out.print("Enter the number of seats to be booked: ");
+        int number = Constants.KEYBOARD.nextInt();
+        System.out.print("Press 1 for the cheapest seats or 2 for the most central seats: ");
+        SeatFinder.Preference preference = Constants.KEYBOARD.nextInt() == 2
+                ? SeatFinder.Preference.CENTRAL : SeatFinder.Preference.CHEAPEST;
+        try {
+            BookingResult result = service.bookBestAvailable(userName, concert.getConcertId(), zone, number, preference);
+            if (!result.isSuccess()) {
+                System.out.println(result.getMessage());
+                return;
+            }
+            List<Ticket> tickets = result.getBooking().getTickets();
+            Ticket first = tickets.get(0);
+            System.out.printf("Booked %d seats in %s row %d, seats %d to %d, for AUD %.1f\n", tickets.size(), zone,
+                    first.getRowNumber(), first.getSeatNumber(), tickets.get(tickets.size() - 1).getSeatNumber(),
+                    result.getBooking().getTotalPrice());
+        } catch (IOException e) {
+            System.out.println("Error writing file: " + e.getMessage());
+        }
     }
 
     /**
@@ -425,13 +400,7 @@ public class TicketManagementEngine {
      * @param concert the concert for which to view booking details
      */
     private void viewBookingDetails(Concert concert) {
-        List<Booking> bookingList = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getCustomerId().equals(userName) && booking.getConcertId().equals(concert.getConcertId())) {
-                bookingList.add(booking);
-            }
-        }
-        viewBookings(bookingList, concert);
+        viewBookings(service.getBookings(userName, concert.getConcertId()), concert);
     }
 
     /**
@@ -492,7 +461,8 @@ public class TicketManagementEngine {
         venueFilePaths.add(Constants.DEFAULT_VENUE_FILE_PATH);
 
         // Load data from these files
-        if(!loadData())  return;
+        service = new TicketService(customerFilePath, concertFilePath, bookingFilePath, venueFilePaths);
+        if (!service.load(userName, password))  return;
 
         // Show welcome message for admin
         System.out.println("Welcome to Ticket Management System Admin Mode.");
@@ -506,6 +476,7 @@ public class TicketManagementEngine {
             System.out.println("Press 3 to view booking details");
             System.out.println("Press 4 to view total payment received for a concert");
             System.out.println("Press 5 to exit");
+            System.out.println("Press 6 to view operation timings");
             System.out.print(Constants.INPUT);
             int cmd = Constants.KEYBOARD.nextInt();
             switch (cmd) {
@@ -523,10 +494,12 @@ public class TicketManagementEngine {
                     break;
                 case Constants.ADMIN_EXIT:
                     System.out.println("Exiting admin mode");
-                    FileSaver fileSaver = new FileSaver(customerFilePath, customers, concertFilePath, concerts, bookingFilePath, bookings);
-                    fileSaver.save();
+                    service.save();
                     flag = false;
                     break;
+                case Constants.ADMIN_VIEW_METRICS:
+                    Metrics.report(System.out);
+                    break;
                 default:
                     System.out.println(Constants.INVALID_INPUT);
             }
@@ -534,312 +507,80 @@ public class TicketManagementEngine {
     }
 
     /**
-     * Loads all necessary data for the application.
-     * @return true if the file is valid
-     */
-    private boolean loadData() {
-        if (!loadCustomerData())    return false;
-        loadConcertData();
-        loadBookingData();
-
-        if (!loadVenueData()) {
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Loads customer data from a file.
-     * @return true if the customer file is valid
-     */
-    private boolean loadCustomerData() {
-        boolean valid = true;
-        // Attempt to open and read the customer file
-        try (BufferedReader reader = new BufferedReader(new FileReader(customerFilePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                try {
-                    validateAndAddCustomer(line);
-                } catch (InvalidLineException | InvalidFormatException e) {
-                    System.out.println(e.getMessage());
-                }
-            }
-        } catch (IOException e) {
-            System.out.println(customerFilePath + " (No such file or directory)");
-            valid = false;
-        }
-        if (!userName.equals("") && valid) {
-            try {
-                authenticateCustomer();
-            } catch (IncorrectPasswordException | NotFoundException e) {
-                System.out.println(e.getMessage());
-                valid = false; // Exit the program after displaying the error message
-            }
-        }
-        return valid;
-
-    }
-
-    /**
-     * Validates and adds a customer to the system.
-     *
-     * @param line the line from the customer file to validate and add
-     * @throws InvalidLineException if the line format is invalid
-     * @throws InvalidFormatException if the data format is invalid
-     */
-    private void validateAndAddCustomer(String line) throws InvalidLineException, InvalidFormatException {
-        String[] parts = line.split(",");
-        if (parts.length != 3) {
-            throw new InvalidLineException("Invalid Customer Files. Skipping this line.");
-        }
-
-        String customerId = parts[0].trim();
-        String customerName = parts[1].trim();
-        String password = parts[2].trim();
-
-        if (!customerId.matches("\\d+")) {
-            throw new InvalidFormatException("Customer Id is in incorrect format. Skipping this line.");
-        }
-
-        Customer customer = new Customer(customerId, customerName, password);
-        customers.add(customer);
-    }
-
-    /**
-     * Authenticates the customer using provided username and password.
+     * Handles the batch mode, running a command file without any interactive input.
      *
-     * @throws IncorrectPasswordException if the password is incorrect
-     * @throws NotFoundException if the customer is not found
-     */
-    private void authenticateCustomer() throws IncorrectPasswordException, NotFoundException {
-        for (Customer customer : customers) {
-            if (customer.getCustomerId().equals(userName)) {
-                if (!customer.getPassword().equals(password)) {
-                    throw new IncorrectPasswordException("Incorrect Password. Terminating Program");
-                } else {
-                    customerName = customer.getCustomerName();
-                    return;
-                }
-            }
-        }
-        throw new NotFoundException("Customer does not exist. Terminating Program");
-    }
-
-    /**
-     * Loads concert data from a file.
+     * @param args the command-line arguments
+     * @throws IOException if an I/O error occurs
      */
-    private void loadConcertData() {
-        // Check if concert file path is not null or empty
-        if (concertFilePath == null || concertFilePath.isEmpty()) {
-            System.out.println("Concert file path is not specified.");
+    private void handleBatchMode(String[] args) throws IOException {
+        if (args.length < 5) {
+            System.out.println("Usage: --batch <command file> <customer file> <concert file> <booking file> [venue files]");
             return;
         }
-
-        // Attempt to open and read the concert file
-        try (BufferedReader reader = new BufferedReader(new FileReader(concertFilePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                try {
-                    validateAndAddConcert(line);
-                } catch (InvalidLineException | InvalidFormatException e) {
-                    System.out.println(e.getMessage());
-                }
-            }
-        } catch (IOException e) {
-            //ystem.out.println(concertFilePath + " (No such file or directory)");
-            //ystem.exit(0);
-        }
-    }
-
-    /**
-     * Validates and adds a concert to the system.
-     *
-     * @param line the line from the concert file to validate and add
-     * @throws InvalidLineException if the line format is invalid
-     * @throws InvalidFormatException if the data format is invalid
-     */
-    private void validateAndAddConcert(String line) throws InvalidLineException, InvalidFormatException {
-        String[] parts = line.split(",");
-        if (parts.length != 8) {
-            throw new InvalidLineException("Invalid Concert Files. Skipping this line.");
-        }
-
-        String concertId = parts[0].trim();
-        String date = parts[1].trim();
-        String timing = parts[2].trim();
-        String artistName = parts[3].trim();
-        String venueName = parts[4].trim();
-        String zonePricing = parts[5].trim() + ":" + parts[6].trim() + ":" + parts[7].trim();
-
-        if (!concertId.matches("\\d+")) {
-            throw new InvalidFormatException("Concert Id is in incorrect format. Skipping this line.");
-        }
-        if (!timing.matches("\\d{4}")) {
-            throw new InvalidFormatException("Timing is in incorrect format. Skipping this line.");
+        String commandFilePath = args[1];
+        customerFilePath = args[2];
+        concertFilePath = args[3];
+        bookingFilePath = args[4];
+        for (int i = 5; i < args.length; i++) {
+            venueFilePaths.add(args[i]);
         }
+        venueFilePaths.add(Constants.DEFAULT_VENUE_FILE_PATH);
 
-        Concert concert = new Concert(concertId, date, timing, artistName, venueName, zonePricing);
-        concerts.add(concert);
-    }
-
-    /**
-     * Loads booking data from a file.
-     */
-    private void loadBookingData() {
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(bookingFilePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                try {
-                    parseAndAddBooking(line);
-                } catch (InvalidLineException | InvalidFormatException e) {
-                    System.out.println(e.getMessage());
-                }
-            }
-        } catch (IOException e) {
+        service = new TicketService(customerFilePath, concertFilePath, bookingFilePath, venueFilePaths);
+        if (!service.load("", ""))  return;
+        try {
+            new BatchRunner(service).run(commandFilePath);
+        } catch (FileNotFoundException e) {
+            System.out.println(commandFilePath + " (No such file or directory)");
         }
+        service.save();
     }
 
     /**
-     * Parses and adds a booking to the system.
+     * Handles the server mode, loading the data once and serving bookings over HTTP until the process is stopped.
+     * The session is saved when the JVM shuts down.
      *
-     * @param line the line from the booking file to parse and add
-     * @throws InvalidLineException if the line format is invalid
-     * @throws InvalidFormatException if the data format is invalid
+     * @param args the command-line arguments
+     * @throws IOException if an I/O error occurs
      */
-    private void parseAndAddBooking(String line) throws InvalidLineException, InvalidFormatException {
-        String[] parts = line.split(",");
-        int minFixedDataPoints = 5; // Booking ID, Customer ID, Customer Name, Concert ID, Total Tickets
-        if (parts.length < minFixedDataPoints || (parts.length - minFixedDataPoints) % 5 != 0) {
-            throw new InvalidLineException("Invalid booking Files. Skipping this line.");
+    private void handleServerMode(String[] args) throws IOException {
+        if (args.length < 5) {
+            System.out.println("Usage: --server <port> <customer file> <concert file> <booking file> [venue files]");
+            return;
         }
-
-        String bookingId = parts[0].trim();
-        String customerId = parts[1].trim();
-        String customerName = parts[2].trim();
-        String concertId = parts[3].trim();
-        int totalTickets;
-
+        int port;
         try {
-
-            totalTickets = Integer.parseInt(parts[4].trim());
-            if (Integer.parseInt(parts[4].trim()) == 0) {
-                throw new InvalidFormatException("Incorrect Number of Tickets. Skipping this line.");
-            }
+            port = Integer.parseInt(args[1]);
         } catch (NumberFormatException e) {
-            throw new InvalidFormatException("Incorrect Number of Tickets. Skipping this line.");
+            System.out.println("Invalid port: " + args[1]);
+            return;
         }
-
-        List<Ticket> tickets = new ArrayList<>();
-        for (int i = 0; i < totalTickets; i++) {
-            int baseIndex = minFixedDataPoints + i * 5;
-            int ticketId = Integer.parseInt(parts[baseIndex].trim());
-            int rowNumber = Integer.parseInt(parts[baseIndex + 1].trim());
-            int seatNumber = Integer.parseInt(parts[baseIndex + 2].trim());
-            String zoneType = parts[baseIndex + 3].trim();
-            double price = Double.parseDouble(parts[baseIndex + 4].trim());
-
-            if (!zoneType.matches("VIP|SEATING|STANDING")) {
-                throw new InvalidFormatException("Invalid Zone Type. Skipping this line.");
-            }
-
-            tickets.add(new Ticket(ticketId, rowNumber, seatNumber, zoneType, price));
+        customerFilePath = args[2];
+        concertFilePath = args[3];
+        bookingFilePath = args[4];
+        for (int i = 5; i < args.length; i++) {
+            venueFilePaths.add(args[i]);
         }
+        venueFilePaths.add(Constants.DEFAULT_VENUE_FILE_PATH);
 
-        Booking booking = new Booking(bookingId, customerId, customerName, concertId, totalTickets, tickets);
-
-        bookings.add(booking);
-    }
-
-
-    /**
-     * Loads venue data from specified files.
-     * @return true if the venue file is valid
-     */
-    private boolean loadVenueData() {
-        boolean valid = true;
-        for (String filePath : venueFilePaths) {
-            String venueKey = extractVenueKey(filePath);
-            boolean flag = true;
-            for(int i = 0; i < concerts.size(); i ++ ) {
-                if(concerts.get(i).getVenueName().toLowerCase().equals(venueKey)) {
-                    flag = false;
-                }
-            }
-            if(flag && !venueKey.equals(Constants.DEFAULT))    continue;
+        service = new TicketService(customerFilePath, concertFilePath, bookingFilePath, venueFilePaths);
+        if (!service.load("", ""))  return;
+        final TicketServer server = new TicketServer(service, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
             try {
-                Venue venue = readVenueFile(filePath);
-                venues.put(venueKey, venue);
-            } catch (FileNotFoundException e) {
+                service.save();
             } catch (IOException e) {
-                System.out.println("Error reading file: " + e.getMessage());
-                valid =  false;
-            } catch (InvalidFormatException e) {
-                System.out.println(e.getMessage());
+                System.out.println("Error saving data: " + e.getMessage());
             }
-        }
-        return valid;
-    }
-
-    /**
-     * Extracts the venue key from a file path.
-     *
-     * @param filePath the file path to extract the venue key from
-     * @return the extracted venue key
-     */
-    private String extractVenueKey(String filePath) {
-        File file = new File(filePath);
-        String fileName = file.getName();
-        return fileName.substring(6, fileName.lastIndexOf('.'));
-    }
-
-    /**
-     * Reads venue data from a file.
-     *
-     * @param filePath the file path to read the venue data from
-     * @return the venue object created from the file data
-     * @throws IOException if an I/O error occurs
-     * @throws InvalidFormatException if the data format is invalid
-     */
-    private Venue readVenueFile(String filePath) throws IOException, InvalidFormatException {
-        int vipRows = 0, seatingRows = 0, standingRows = 0;
-        int left = 0, middle = 0, right = 0;
-        boolean flag = true;
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(" ");
-                if (line.trim().length() == 0)  continue;
-                // Calculate seats for each section
-                if (flag) {
-                    left = parts[1].replaceAll("[\\[\\]]", "").length();
-                    middle = parts[2].replaceAll("[\\[\\]]", "").length();
-                    right = parts[3].replaceAll("[\\[\\]]", "").length();
-                    flag = false;
-                }
-
-                // Update row counts and seat counts based on zone type
-                switch (parts[0].charAt(0)) {
-                    case Constants.V:
-                        vipRows++;
-                        break;
-                    case Constants.S:
-                        seatingRows++;
-                        break;
-                    case Constants.T:
-                        standingRows++;
-                        break;
-                    default:
-                        System.out.println("Invalid Zone Type. Skipping this line.");
-                        continue;
-                }
+            if (Boolean.getBoolean(Constants.METRICS_REPORT_PROPERTY)) {
+                Metrics.report(System.out);
             }
-        }
-
-        return new Venue(vipRows, seatingRows, standingRows, left, middle, right);
+        }));
+        server.start();
+        System.out.println("Serving " + service.getConcerts().size() + " concerts on port " + server.getPort());
     }
 
-
     /**
      * Displays a welcome message for the user.
      */
@@ -0,0 +1,183 @@
+package benchmark;
+
+import utils.Constants;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * The DataGenerator class writes synthetic data files in the format of the files in {@code assets/}.
+ * It produces a customer file, a concert file, a booking file with the requested number of bookings
+ * and one venue file per venue, so that loading and saving can be measured at realistic scales.
+ *
+ * @version 1.0
+ */
+public class DataGenerator {
+
+    /**
+     * The venues concerts are held at.
+     */
+    private static final String[] VENUES = {"MCG", "MARVEL", "ARENA", "STADIUM"};
+
+    /**
+     * The artists performing the concerts.
+     */
+    private static final String[] ARTISTS = {"Taylor Swift", "Coldplay", "Ed Sheeran", "Adele", "The Weeknd"};
+
+    /**
+     * The number of VIP, seating and standing rows of each generated venue.
+     */
+    private static final int[] ROWS = {5, 10, 20};
+
+    /**
+     * The number of seats in the left, middle and right section of each generated venue.
+     */
+    private static final int[] SECTIONS = {10, 30, 10};
+
+    /**
+     * The source of randomness, seeded so that runs are repeatable.
+     */
+    private final Random random;
+
+    /**
+     * Constructs a DataGenerator.
+     *
+     * @param seed the seed for the generated data
+     */
+    public DataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates a full data set in a directory.
+     *
+     * @param directory the directory to write the files to
+     * @param bookingCount the number of bookings to generate
+     * @throws IOException if a file cannot be written
+     */
+    public void generate(File directory, int bookingCount) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        int customerCount = Math.max(10, bookingCount / 20);
+        int concertCount = Math.max(VENUES.length, bookingCount / 1000);
+        writeCustomers(new File(directory, "customer.csv"), customerCount);
+        writeConcerts(new File(directory, "concert.csv"), concertCount);
+        writeBookings(new File(directory, "bookings.csv"), bookingCount, customerCount, concertCount);
+        for (String venue : VENUES) {
+            writeVenue(new File(directory, "venue_" + venue.toLowerCase() + ".txt"));
+        }
+    }
+
+    /**
+     * Writes the customer file.
+     *
+     * @param file the file to write
+     * @param customerCount the number of customers
+     * @throws IOException if the file cannot be written
+     */
+    private void writeCustomers(File file, int customerCount) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            for (int i = 1; i <= customerCount; i++) {
+                writer.write(i + ",Customer " + i + ",pass" + random.nextInt(1000000) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Writes the concert file. Each concert is held at one of the generated venues.
+     *
+     * @param file the file to write
+     * @param concertCount the number of concerts
+     * @throws IOException if the file cannot be written
+     */
+    private void writeConcerts(File file, int concertCount) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            for (int i = 1; i <= concertCount; i++) {
+                int base = 50 + random.nextInt(100);
+                writer.write(i + ",2024-" + String.format("%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28))
+                        + "," + (1700 + 100 * random.nextInt(4))
+                        + "," + ARTISTS[random.nextInt(ARTISTS.length)]
+                        + "," + VENUES[(i - 1) % VENUES.length]
+                        + "," + Constants.STANDING + ":" + base + ".0:" + (base + 50) + ".0:" + base + ".0"
+                        + "," + Constants.SEATING + ":" + (base + 100) + ".0:" + (base + 160) + ".0:" + (base + 100) + ".0"
+                        + "," + Constants.VIP + ":" + (base + 260) + ".0:" + (base + 400) + ".0:" + (base + 260) + ".0\n");
+            }
+        }
+    }
+
+    /**
+     * Writes the booking file. Each booking holds one to four adjacent seats in one row.
+     *
+     * @param file the file to write
+     * @param bookingCount the number of bookings
+     * @param customerCount the number of customers
+     * @param concertCount the number of concerts
+     * @throws IOException if the file cannot be written
+     */
+    private void writeBookings(File file, int bookingCount, int customerCount, int concertCount) throws IOException {
+        String[] zones = {Constants.VIP, Constants.SEATING, Constants.STANDING};
+        int width = SECTIONS[0] + SECTIONS[1] + SECTIONS[2];
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+            StringBuilder line = new StringBuilder();
+            for (int i = 1; i <= bookingCount; i++) {
+                int customer = 1 + random.nextInt(customerCount);
+                int tickets = 1 + random.nextInt(4);
+                int type = random.nextInt(zones.length);
+                int row = 1 + random.nextInt(ROWS[type]);
+                int seat = 1 + random.nextInt(width - tickets + 1);
+                line.setLength(0);
+                line.append(i).append(',').append(customer).append(",Customer ").append(customer)
+                        .append(',').append(1 + random.nextInt(concertCount)).append(',').append(tickets);
+                for (int j = 0; j < tickets; j++) {
+                    line.append(',').append(j + 1).append(',').append(row).append(',').append(seat + j)
+                            .append(',').append(zones[type]).append(',').append(100 + random.nextInt(400)).append(".0");
+                }
+                writer.write(line.append('\n').toString());
+            }
+        }
+    }
+
+    /**
+     * Writes a venue file with the generated row and section sizes.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    private void writeVenue(File file) throws IOException {
+        char[] labels = {Constants.V, Constants.S, Constants.T};
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            for (int type = 0; type < labels.length; type++) {
+                for (int row = 1; row <= ROWS[type]; row++) {
+                    StringBuilder line = new StringBuilder().append(labels[type]).append(row);
+                    int seat = 1;
+                    for (int section : SECTIONS) {
+                        line.append(' ');
+                        for (int i = 0; i < section; i++) {
+                            line.append('[').append(seat++).append(']');
+                        }
+                    }
+                    writer.write(line.append(' ').append(labels[type]).append(row).append('\n').toString());
+                }
+                writer.write("\n");
+            }
+        }
+    }
+
+    /**
+     * Generates a data set from the command line.
+     *
+     * @param args the target directory and the number of bookings
+     * @throws IOException if a file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: DataGenerator <directory> <bookings>");
+            return;
+        }
+        new DataGenerator(42).generate(new File(args[0]), Integer.parseInt(args[1]));
+    }
+}
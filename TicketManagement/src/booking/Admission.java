@@ -0,0 +1,107 @@
+package booking;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The Admission class is the outcome of asking an {@link AdmissionQueue} to enter the booking flow of a concert.
+ * An admitted session holds one of the queue's places until it is closed, so it should be used
+ * in a try-with-resources block around the booking. A session that was not admitted holds nothing,
+ * and its status tells why.
+ *
+ * @version 1.0
+ */
+public class Admission implements AutoCloseable {
+
+    /**
+     * The outcomes of asking to enter the booking flow.
+     */
+    public enum Status {
+
+        /**
+         * The session may book.
+         */
+        ADMITTED,
+
+        /**
+         * The queue already holds as many waiting sessions as it accepts.
+         */
+        QUEUE_FULL,
+
+        /**
+         * The session waited in the queue for longer than it was willing to.
+         */
+        TIMED_OUT,
+
+        /**
+         * The concert has no seats left.
+         */
+        SOLD_OUT
+    }
+
+    /**
+     * The queue the session entered, or null if it was not admitted.
+     */
+    private final AtomicReference<AdmissionQueue> queue;
+
+    /**
+     * The outcome.
+     */
+    private final Status status;
+
+    /**
+     * The number of sessions ahead of this one when it joined the queue, 0 if it was admitted straight away.
+     */
+    private final int position;
+
+    /**
+     * Constructs an Admission.
+     *
+     * @param queue the queue the session entered, or null if it was not admitted
+     * @param status the outcome
+     * @param position the number of sessions ahead when the session joined the queue
+     */
+    Admission(AdmissionQueue queue, Status status, int position) {
+        this.queue = new AtomicReference<>(queue);
+        this.status = status;
+        this.position = position;
+    }
+
+    /**
+     * Returns whether the session may book.
+     *
+     * @return true if it was admitted
+     */
+    public boolean isAdmitted() {
+        return status == Status.ADMITTED;
+    }
+
+    /**
+     * Returns the outcome.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the number of sessions that were ahead of this one when it joined the queue.
+     *
+     * @return the queue position, 0 if the session was admitted without waiting
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Leaves the booking flow, letting the next waiting session in. Closing more than once has no effect.
+     */
+    @Override
+    public void close() {
+        // Not synchronized, as leaving may block on the queue's lock and a virtual thread would pin its carrier
+        AdmissionQueue entered = queue.getAndSet(null);
+        if (entered != null) {
+            entered.leave();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package booking;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * The AdmissionQueue class meters how many sessions may be in the booking flow of one concert at a time.
+ * Sessions beyond that limit wait in first-come first-served order, up to a bounded number of waiting
+ * sessions; past that, and once a concert is sold out, sessions are turned away straight away instead of
+ * piling up. The number of sessions let in is also capped by the seats left, as each admitted session
+ * books at least one seat, so a nearly sold out concert admits only as many sessions as could still succeed.
+ *
+ * @version 1.0
+ */
+public class AdmissionQueue {
+
+    /**
+     * The largest number of sessions in the booking flow at a time.
+     */
+    private final int maxActive;
+
+    /**
+     * The largest number of sessions waiting to enter.
+     */
+    private final int maxWaiting;
+
+    /**
+     * The source of the number of seats left for the concert.
+     */
+    private final IntSupplier seatsLeft;
+
+    /**
+     * The lock guarding the queue, fair so that waiting sessions are woken in order.
+     */
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    /**
+     * The condition signalled whenever sessions are let in or the concert sells out.
+     */
+    private final Condition changed = lock.newCondition();
+
+    /**
+     * The waiting sessions, in the order they arrived.
+     */
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+
+    /**
+     * The number of sessions in the booking flow.
+     */
+    private int active;
+
+    /**
+     * Constructs an AdmissionQueue.
+     *
+     * @param maxActive the largest number of sessions in the booking flow at a time
+     * @param maxWaiting the largest number of sessions waiting to enter
+     * @param seatsLeft the source of the number of seats left for the concert
+     */
+    public AdmissionQueue(int maxActive, int maxWaiting, IntSupplier seatsLeft) {
+        if (maxActive < 1 || maxWaiting < 0) {
+            throw new IllegalArgumentException("Invalid queue limits: " + maxActive + " active, " + maxWaiting + " waiting");
+        }
+        this.maxActive = maxActive;
+        this.maxWaiting = maxWaiting;
+        this.seatsLeft = seatsLeft;
+    }
+
+    /**
+     * Asks to enter the booking flow, waiting in line if it is full.
+     *
+     * @param timeoutMillis the longest time to wait in line
+     * @return the admission, which must be closed once the session leaves the booking flow if it was admitted
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public Admission enter(long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            int seats = seatsLeft.getAsInt();
+            if (seats <= 0) {
+                return new Admission(null, Admission.Status.SOLD_OUT, 0);
+            }
+            if (waiting.isEmpty() && active < Math.min(maxActive, seats)) {
+                active++;
+                return new Admission(this, Admission.Status.ADMITTED, 0);
+            }
+            if (waiting.size() >= maxWaiting) {
+                return new Admission(null, Admission.Status.QUEUE_FULL, waiting.size());
+            }
+            Waiter waiter = new Waiter();
+            int position = waiting.size();
+            waiting.addLast(waiter);
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            try {
+                while (!waiter.admitted && !waiter.soldOut) {
+                    if (remaining <= 0) {
+                        waiting.remove(waiter);
+                        return new Admission(null, Admission.Status.TIMED_OUT, position);
+                    }
+                    remaining = changed.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (!waiting.remove(waiter) && waiter.admitted) {
+                    // Let in at the same time as interrupted, so the place is handed on
+                    active--;
+                    admit();
+                }
+                throw e;
+            }
+            return waiter.admitted ? new Admission(this, Admission.Status.ADMITTED, position)
+                    : new Admission(null, Admission.Status.SOLD_OUT, position);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of sessions in the booking flow.
+     *
+     * @return the number of active sessions
+     */
+    public int getActive() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of sessions waiting to enter.
+     *
+     * @return the number of waiting sessions
+     */
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Leaves the booking flow and lets waiting sessions in.
+     */
+    void leave() {
+        lock.lock();
+        try {
+            active--;
+            admit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lets waiting sessions in while there is room, or turns them all away once the concert is sold out.
+     * Must be called with the lock held.
+     */
+    private void admit() {
+        if (waiting.isEmpty()) {
+            return;
+        }
+        int seats = seatsLeft.getAsInt();
+        if (seats <= 0) {
+            for (Waiter waiter : waiting) {
+                waiter.soldOut = true;
+            }
+            waiting.clear();
+        }
+        while (!waiting.isEmpty() && active < Math.min(maxActive, seats)) {
+            waiting.pollFirst().admitted = true;
+            active++;
+        }
+        changed.signalAll();
+    }
+
+    /**
+     * A session waiting to enter.
+     */
+    private static final class Waiter {
+
+        /**
+         * Whether the session has been let in.
+         */
+        private boolean admitted;
+
+        /**
+         * Whether the concert sold out while the session was waiting.
+         */
+        private boolean soldOut;
+    }
+}
@@ -1,12 +1,14 @@
 package booking;
 
 import ticket.Ticket;
+import ticket.TicketStore;
 
 import java.util.List;
 
 /**
  * The Booking class represents a booking made by a customer for a concert.
  * It includes the booking ID, customer ID, customer name, concert ID, total tickets, and a list of tickets.
+ * The tickets are kept as a contiguous range of a {@link TicketStore}, usually the one shared by the concert.
  *
  * @version 1.0
  */
@@ -38,9 +40,24 @@ public class Booking {
     private int totalTickets;
 
     /**
-     * The list of tickets booked.
+     * The store holding the tickets booked.
      */
-    private List<Ticket> tickets;
+    private TicketStore ticketStore;
+
+    /**
+     * The index of the first ticket of this booking in the store.
+     */
+    private int ticketOffset;
+
+    /**
+     * The number of tickets of this booking in the store.
+     */
+    private int ticketCount;
+
+    /**
+     * The version of the concert's prices the tickets were priced at, or -1 if the booking was read from a file.
+     */
+    private int priceVersion = -1;
 
     /**
      * Constructs a new Booking with the specified details.
@@ -58,7 +75,55 @@ public class Booking {
         this.customerName = customerName;
         this.concertId = concertId;
         this.totalTickets = totalTickets;
-        this.tickets = tickets;
+        this.ticketStore = new TicketStore(tickets.size());
+        for (Ticket ticket : tickets) {
+            ticketStore.add(ticket);
+        }
+        this.ticketOffset = 0;
+        this.ticketCount = tickets.size();
+    }
+
+    /**
+     * Constructs a new Booking whose tickets are a range of a ticket store.
+     *
+     * @param bookingId     the unique ID of the booking
+     * @param customerId    the ID of the customer who made the booking
+     * @param customerName  the name of the customer who made the booking
+     * @param concertId     the ID of the concert for which the booking was made
+     * @param totalTickets  the total number of tickets booked
+     * @param ticketStore   the store holding the tickets booked
+     * @param ticketOffset  the index of the first ticket in the store
+     * @param ticketCount   the number of tickets in the store
+     */
+    public Booking(String bookingId, String customerId, String customerName, String concertId, int totalTickets,
+                   TicketStore ticketStore, int ticketOffset, int ticketCount) {
+        this.bookingId = bookingId;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.concertId = concertId;
+        this.totalTickets = totalTickets;
+        this.ticketStore = ticketStore;
+        this.ticketOffset = ticketOffset;
+        this.ticketCount = ticketCount;
+    }
+
+    /**
+     * Constructs a new Booking whose tickets are a range of a ticket store, priced at a known version of the concert's prices.
+     *
+     * @param bookingId     the unique ID of the booking
+     * @param customerId    the ID of the customer who made the booking
+     * @param customerName  the name of the customer who made the booking
+     * @param concertId     the ID of the concert for which the booking was made
+     * @param totalTickets  the total number of tickets booked
+     * @param ticketStore   the store holding the tickets booked
+     * @param ticketOffset  the index of the first ticket in the store
+     * @param ticketCount   the number of tickets in the store
+     * @param priceVersion  the version of the concert's prices the tickets were priced at
+     */
+    public Booking(String bookingId, String customerId, String customerName, String concertId, int totalTickets,
+                   TicketStore ticketStore, int ticketOffset, int ticketCount, int priceVersion) {
+        this(bookingId, customerId, customerName, concertId, totalTickets, ticketStore, ticketOffset, ticketCount);
+        this.priceVersion = priceVersion;
     }
 
     /**
@@ -67,9 +132,18 @@ public class Booking {
      * @return the total price of all tickets booked
      */
     public Double getTotalPrice() {
-        Double sum = 0.0;
-        for (Ticket ticket : tickets) {
-            sum += ticket.getPrice();
+        return getTotalCents() / 100.0;
+    }
+
+    /**
+     * Returns the total price of all tickets booked in cents.
+     *
+     * @return the total price in cents
+     */
+    public long getTotalCents() {
+        long sum = 0;
+        for (int i = ticketOffset; i < ticketOffset + ticketCount; i++) {
+            sum += ticketStore.getPriceCents(i);
         }
         return sum;
     }
@@ -120,11 +194,47 @@ public class Booking {
     }
 
     /**
-     * Returns the list of tickets booked.
+     * Returns the list of tickets booked, as a read-only view of the ticket store.
      *
      * @return the list of tickets booked
      */
     public List<Ticket> getTickets() {
-        return tickets;
+        return ticketStore.view(ticketOffset, ticketCount);
+    }
+
+    /**
+     * Returns the store holding the tickets booked.
+     *
+     * @return the ticket store
+     */
+    public TicketStore getTicketStore() {
+        return ticketStore;
+    }
+
+    /**
+     * Returns the index of the first ticket of this booking in the store.
+     *
+     * @return the index of the first ticket
+     */
+    public int getTicketOffset() {
+        return ticketOffset;
+    }
+
+    /**
+     * Returns the number of tickets of this booking in the store.
+     *
+     * @return the number of tickets
+     */
+    public int getTicketCount() {
+        return ticketCount;
+    }
+
+    /**
+     * Returns the version of the concert's prices the tickets were priced at.
+     *
+     * @return the price version, or -1 if the booking was read from a file
+     */
+    public int getPriceVersion() {
+        return priceVersion;
     }
 }
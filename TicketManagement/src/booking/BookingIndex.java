@@ -0,0 +1,166 @@
+package booking;
+
+import ticket.TicketStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The BookingIndex class groups bookings by concert and by customer and concert.
+ * It also owns the {@link TicketStore} holding the tickets of each concert.
+ * Bookings must be added through {@link #add(Booking)} as they are loaded or created.
+ * All methods are synchronized so the index can be shared by concurrent sessions;
+ * lookups return copies that are safe to iterate while bookings are added.
+ *
+ * @version 1.0
+ */
+public class BookingIndex {
+
+    /**
+     * The bookings of each concert, keyed by concert ID.
+     */
+    private final Map<String, ConcertBookings> byConcert = new HashMap<>();
+
+    /**
+     * The bookings of each customer for each concert, keyed by customer ID and concert ID.
+     */
+    private final Map<String, List<Booking>> byCustomer = new HashMap<>();
+
+    /**
+     * Adds a booking to the index.
+     *
+     * @param booking the booking to add
+     */
+    public synchronized void add(Booking booking) {
+        ConcertBookings concertBookings = concertBookings(booking.getConcertId());
+        concertBookings.bookings.add(booking);
+
+        String key = key(booking.getCustomerId(), booking.getConcertId());
+        List<Booking> customerBookings = byCustomer.get(key);
+        if (customerBookings == null) {
+            customerBookings = new ArrayList<>();
+            byCustomer.put(key, customerBookings);
+        }
+        customerBookings.add(booking);
+    }
+
+    /**
+     * Returns the store holding the tickets of a concert, creating it if needed.
+     *
+     * @param concertId the ID of the concert
+     * @return the ticket store of the concert
+     */
+    public synchronized TicketStore getTicketStore(String concertId) {
+        return concertBookings(concertId).tickets;
+    }
+
+    /**
+     * Returns the bookings made for a concert, in the order they were added.
+     *
+     * @param concertId the ID of the concert
+     * @return the bookings for the concert
+     */
+    public synchronized List<Booking> getBookings(String concertId) {
+        ConcertBookings concertBookings = byConcert.get(concertId);
+        if (concertBookings == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(concertBookings.bookings);
+    }
+
+    /**
+     * Returns the bookings a customer made for a concert, in the order they were added.
+     *
+     * @param customerId the ID of the customer
+     * @param concertId the ID of the concert
+     * @return the bookings of the customer for the concert
+     */
+    public synchronized List<Booking> getBookings(String customerId, String concertId) {
+        List<Booking> customerBookings = byCustomer.get(key(customerId, concertId));
+        if (customerBookings == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(customerBookings);
+    }
+
+    /**
+     * Checks whether a customer already has a booking with the given ID for a concert.
+     *
+     * @param customerId the ID of the customer
+     * @param concertId the ID of the concert
+     * @param bookingId the ID of the booking
+     * @return true if the booking is already indexed
+     */
+    public synchronized boolean contains(String customerId, String concertId, String bookingId) {
+        List<Booking> customerBookings = byCustomer.get(key(customerId, concertId));
+        if (customerBookings != null) {
+            for (Booking booking : customerBookings) {
+                if (booking.getBookingId().equals(bookingId)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the ID for the next booking of a customer for a concert,
+     * one more than the ID of their latest booking for it.
+     *
+     * @param customerId the ID of the customer
+     * @param concertId the ID of the concert
+     * @return the next booking ID
+     */
+    public synchronized int nextBookingId(String customerId, String concertId) {
+        List<Booking> customerBookings = byCustomer.get(key(customerId, concertId));
+        if (customerBookings == null) {
+            return 1;
+        }
+        return Integer.parseInt(customerBookings.get(customerBookings.size() - 1).getBookingId()) + 1;
+    }
+
+    /**
+     * Returns the bookings of a concert, creating the entry if needed.
+     *
+     * @param concertId the ID of the concert
+     * @return the bookings of the concert
+     */
+    private ConcertBookings concertBookings(String concertId) {
+        ConcertBookings concertBookings = byConcert.get(concertId);
+        if (concertBookings == null) {
+            concertBookings = new ConcertBookings();
+            byConcert.put(concertId, concertBookings);
+        }
+        return concertBookings;
+    }
+
+    /**
+     * Builds the secondary key for a customer and concert.
+     *
+     * @param customerId the ID of the customer
+     * @param concertId the ID of the concert
+     * @return the combined key
+     */
+    private static String key(String customerId, String concertId) {
+        return customerId + "," + concertId;
+    }
+
+    /**
+     * The bookings and tickets of a single concert.
+     */
+    private static class ConcertBookings {
+
+        /**
+         * The bookings for the concert, in the order they were added.
+         */
+        private final List<Booking> bookings = new ArrayList<>();
+
+        /**
+         * The tickets of the concert.
+         */
+        private final TicketStore tickets = new TicketStore();
+    }
+}
@@ -0,0 +1,135 @@
+package booking;
+
+/**
+ * The ConcertSales class holds the seats sold and revenue of one concert, broken down by zone
+ * and by the left, middle and right sections of each zone. Revenue is kept in cents.
+ *
+ * @version 1.0
+ */
+public class ConcertSales {
+
+    /**
+     * The revenue in cents of each zone, indexed by zone type (0 for VIP, 1 for seating, 2 for standing).
+     */
+    private final long[] zoneCents = new long[3];
+
+    /**
+     * The seats sold in each zone, indexed by zone type.
+     */
+    private final int[] zoneSeats = new int[3];
+
+    /**
+     * The revenue in cents of each section, at index type * 3 + section.
+     */
+    private final long[] sectionCents = new long[9];
+
+    /**
+     * The seats sold in each section, at index type * 3 + section.
+     */
+    private final int[] sectionSeats = new int[9];
+
+    /**
+     * Constructs an empty ConcertSales.
+     */
+    public ConcertSales() {
+    }
+
+    /**
+     * Constructs a copy of another ConcertSales.
+     *
+     * @param other the sales to copy
+     */
+    public ConcertSales(ConcertSales other) {
+        System.arraycopy(other.zoneCents, 0, zoneCents, 0, zoneCents.length);
+        System.arraycopy(other.zoneSeats, 0, zoneSeats, 0, zoneSeats.length);
+        System.arraycopy(other.sectionCents, 0, sectionCents, 0, sectionCents.length);
+        System.arraycopy(other.sectionSeats, 0, sectionSeats, 0, sectionSeats.length);
+    }
+
+    /**
+     * Records one ticket sold.
+     *
+     * @param type the type of the zone
+     * @param section the section (0 for left, 1 for middle, 2 for right), or -1 if it is not known
+     * @param cents the price of the ticket in cents
+     */
+    void add(int type, int section, int cents) {
+        zoneCents[type] += cents;
+        zoneSeats[type]++;
+        if (section >= 0) {
+            sectionCents[type * 3 + section] += cents;
+            sectionSeats[type * 3 + section]++;
+        }
+    }
+
+    /**
+     * Returns the total revenue in cents.
+     *
+     * @return the revenue of all zones in cents
+     */
+    public long getRevenueCents() {
+        return zoneCents[0] + zoneCents[1] + zoneCents[2];
+    }
+
+    /**
+     * Returns the total revenue.
+     *
+     * @return the revenue of all zones
+     */
+    public double getRevenue() {
+        return getRevenueCents() / 100.0;
+    }
+
+    /**
+     * Returns the total number of seats sold.
+     *
+     * @return the seats sold in all zones
+     */
+    public int getSeatsSold() {
+        return zoneSeats[0] + zoneSeats[1] + zoneSeats[2];
+    }
+
+    /**
+     * Returns the revenue of a zone in cents.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @return the revenue of the zone in cents
+     */
+    public long getRevenueCents(int type) {
+        return zoneCents[type];
+    }
+
+    /**
+     * Returns the number of seats sold in a zone.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @return the seats sold in the zone
+     */
+    public int getSeatsSold(int type) {
+        return zoneSeats[type];
+    }
+
+    /**
+     * Returns the revenue of one section of a zone in cents.
+     * Tickets of a concert whose venue is not loaded are not counted in any section.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param section the section (0 for left, 1 for middle, 2 for right)
+     * @return the revenue of the section in cents
+     */
+    public long getRevenueCents(int type, int section) {
+        return sectionCents[type * 3 + section];
+    }
+
+    /**
+     * Returns the number of seats sold in one section of a zone.
+     * Tickets of a concert whose venue is not loaded are not counted in any section.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param section the section (0 for left, 1 for middle, 2 for right)
+     * @return the seats sold in the section
+     */
+    public int getSeatsSold(int type, int section) {
+        return sectionSeats[type * 3 + section];
+    }
+}
@@ -0,0 +1,232 @@
+package booking;
+
+import concert.Concert;
+import exception.NotFoundException;
+import exception.SeatUnavailableException;
+import utils.Clock;
+import utils.TimingWheel;
+import venue.Venue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The HoldManager class places seats on time-limited holds, so a customer can pick seats and then
+ * confirm them into a booking without another customer taking them in between.
+ * A hold claims its seats on the concert's seat map straight away; confirming it records a booking
+ * for those seats, and releasing it or letting it expire frees them again.
+ * Expiry is tracked on a {@link TimingWheel} that a single background thread advances every tick,
+ * so outstanding holds cost one small object each and no timer task.
+ *
+ * @version 1.0
+ */
+public class HoldManager {
+
+    /**
+     * The engine that claims, books and releases seats.
+     */
+    private final ReservationEngine reservationEngine;
+
+    /**
+     * The wheel tracking when each hold expires.
+     */
+    private final TimingWheel<SeatHold> wheel;
+
+    /**
+     * The length of a hold in milliseconds.
+     */
+    private final long holdMillis;
+
+    /**
+     * The length of a tick of the wheel in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The active holds, keyed by hold ID.
+     */
+    private final Map<Long, SeatHold> holds = new ConcurrentHashMap<>();
+
+    /**
+     * The last hold ID handed out.
+     */
+    private final AtomicLong lastHoldId = new AtomicLong();
+
+    /**
+     * The thread that expires holds, or null until {@link #start()}.
+     */
+    private ScheduledExecutorService expiry;
+
+    /**
+     * Constructs a HoldManager.
+     *
+     * @param reservationEngine the engine that claims, books and releases seats
+     * @param clock the source of time
+     * @param holdMillis the length of a hold in milliseconds
+     * @param tickMillis the length of a tick of the wheel in milliseconds
+     * @param ticksPerWheel the number of ticks of the wheel
+     */
+    public HoldManager(ReservationEngine reservationEngine, Clock clock, long holdMillis, long tickMillis, int ticksPerWheel) {
+        this.reservationEngine = reservationEngine;
+        this.wheel = new TimingWheel<>(clock, tickMillis, ticksPerWheel);
+        this.holdMillis = holdMillis;
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * Starts the background thread that expires holds every tick, unless it is already running.
+     */
+    public synchronized void start() {
+        if (expiry == null) {
+            expiry = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable task) {
+                    Thread thread = new Thread(task, "hold-expiry");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            expiry.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    expire();
+                }
+            }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the background thread. Holds still expire when {@link #expire()} is called.
+     */
+    public synchronized void stop() {
+        if (expiry != null) {
+            expiry.shutdownNow();
+            expiry = null;
+        }
+    }
+
+    /**
+     * Places a hold on a contiguous run of seats in one row.
+     *
+     * @param concert the concert
+     * @param customerId the ID of the customer holding the seats
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param count the number of seats to hold
+     * @return the new hold
+     * @throws SeatUnavailableException if any of the seats is taken, held or outside the venue
+     */
+    public SeatHold hold(Concert concert, String customerId, int type, int rowNumber, int seatNumber, int count)
+            throws SeatUnavailableException {
+        reservationEngine.claim(concert, type, rowNumber, seatNumber, count);
+        SeatHold hold = new SeatHold(lastHoldId.incrementAndGet(), customerId, concert.getConcertId(), type, rowNumber, seatNumber, count);
+        // The hold is registered before its expiry is scheduled, so an expiry never misses it
+        synchronized (hold) {
+            holds.put(hold.getHoldId(), hold);
+            hold.timeout = wheel.schedule(hold, holdMillis);
+        }
+        return hold;
+    }
+
+    /**
+     * Returns an active hold.
+     *
+     * @param holdId the ID of the hold
+     * @return the hold, or null if it does not exist, has expired or has ended
+     */
+    public SeatHold get(long holdId) {
+        return holds.get(holdId);
+    }
+
+    /**
+     * Confirms a hold into a booking of its seats, priced at the concert's current prices.
+     *
+     * @param holdId the ID of the hold
+     * @param customerId the ID of the customer confirming, who must hold the seats
+     * @param concert the concert of the hold
+     * @param venue the venue where the concert is held
+     * @param customerName the name of the customer
+     * @return the new booking
+     * @throws NotFoundException if the customer has no such hold for the concert, or it has expired
+     */
+    public Booking confirm(long holdId, String customerId, Concert concert, Venue venue, String customerName) throws NotFoundException {
+        SeatHold hold = take(holdId, customerId, concert.getConcertId());
+        return reservationEngine.record(concert, venue, customerId, customerName, hold.getType(),
+                hold.getRowNumber(), hold.getSeatNumber(), hold.getCount());
+    }
+
+    /**
+     * Releases a hold, freeing its seats.
+     *
+     * @param holdId the ID of the hold
+     * @param customerId the ID of the customer releasing, who must hold the seats
+     * @param concertId the ID of the concert of the hold
+     * @throws NotFoundException if the customer has no such hold for the concert, or it has expired
+     */
+    public void release(long holdId, String customerId, String concertId) throws NotFoundException {
+        free(take(holdId, customerId, concertId));
+    }
+
+    /**
+     * Releases every hold whose time has run out.
+     *
+     * @return the number of holds that expired
+     */
+    public int expire() {
+        List<SeatHold> expired = wheel.advance();
+        int count = 0;
+        for (SeatHold hold : expired) {
+            if (holds.remove(hold.getHoldId(), hold)) {
+                free(hold);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of active holds.
+     *
+     * @return the number of holds
+     */
+    public int size() {
+        return holds.size();
+    }
+
+    /**
+     * Ends a hold of a customer, cancelling its expiry.
+     *
+     * @param holdId the ID of the hold
+     * @param customerId the ID of the customer, who must hold the seats
+     * @param concertId the ID of the concert of the hold
+     * @return the hold
+     * @throws NotFoundException if the customer has no such hold for the concert, or it has already ended
+     */
+    private SeatHold take(long holdId, String customerId, String concertId) throws NotFoundException {
+        SeatHold hold = holds.get(holdId);
+        if (hold == null || !hold.getCustomerId().equals(customerId) || !hold.getConcertId().equals(concertId)
+                || !holds.remove(holdId, hold)) {
+            throw new NotFoundException("Hold does not exist or has expired.");
+        }
+        synchronized (hold) {
+            wheel.cancel(hold.timeout);
+        }
+        return hold;
+    }
+
+    /**
+     * Frees the seats of a hold that has ended without a booking.
+     *
+     * @param hold the hold
+     */
+    private void free(SeatHold hold) {
+        reservationEngine.release(hold.getConcertId(), hold.getType(), hold.getRowNumber(), hold.getSeatNumber(), hold.getCount());
+    }
+}
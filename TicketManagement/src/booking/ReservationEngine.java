@@ -0,0 +1,163 @@
+package booking;
+
+import concert.Concert;
+import concert.PriceTable;
+import exception.SeatUnavailableException;
+import ticket.TicketStore;
+import ticket.Zone;
+import venue.SeatMap;
+import venue.Venue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ReservationEngine class turns seat requests into bookings.
+ * Seats are claimed all-or-nothing on the concert's {@link SeatMap}, so concurrent
+ * sessions can book the same concert and no seat is ever sold twice.
+ * It is also the single place where bookings enter the shared booking list and index.
+ *
+ * @version 1.0
+ */
+public class ReservationEngine {
+
+    /**
+     * The list of bookings in the system, guarded by the booking index.
+     */
+    private final List<Booking> bookings;
+
+    /**
+     * The index of bookings by concert and by customer.
+     */
+    private final BookingIndex bookingIndex;
+
+    /**
+     * The map of concert IDs to the occupancy of their venue's seats.
+     */
+    private final Map<String, SeatMap> seatMaps;
+
+    /**
+     * Constructs a ReservationEngine over the shared booking state.
+     *
+     * @param bookings the list of bookings in the system
+     * @param bookingIndex the index of bookings
+     * @param seatMaps the map of concert IDs to seat occupancy
+     */
+    public ReservationEngine(List<Booking> bookings, BookingIndex bookingIndex, Map<String, SeatMap> seatMaps) {
+        this.bookings = bookings;
+        this.bookingIndex = bookingIndex;
+        this.seatMaps = seatMaps;
+    }
+
+    /**
+     * Registers an existing booking, such as one loaded from file.
+     * Its seats are marked as taken without checking for conflicts.
+     *
+     * @param booking the booking to register
+     */
+    public void register(Booking booking) {
+        synchronized (bookingIndex) {
+            bookings.add(booking);
+            bookingIndex.add(booking);
+        }
+        SeatMap seatMap = seatMaps.get(booking.getConcertId());
+        if (seatMap != null) {
+            seatMap.bookAll(booking.getTicketStore(), booking.getTicketOffset(), booking.getTicketCount());
+        }
+    }
+
+    /**
+     * Books a contiguous run of seats in one row for a customer.
+     * The seats are claimed atomically; if any of them is taken or outside the row,
+     * nothing is booked and an exception is thrown.
+     *
+     * @param concert the concert to book
+     * @param venue the venue where the concert is held
+     * @param customerId the ID of the customer making the booking
+     * @param customerName the name of the customer making the booking
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param number the number of seats to book
+     * @return the new booking
+     * @throws SeatUnavailableException if the seats cannot be booked
+     */
+    public Booking reserve(Concert concert, Venue venue, String customerId, String customerName,
+                           int type, int rowNumber, int seatNumber, int number) throws SeatUnavailableException {
+        claim(concert, type, rowNumber, seatNumber, number);
+        return record(concert, venue, customerId, customerName, type, rowNumber, seatNumber, number);
+    }
+
+    /**
+     * Claims a contiguous run of seats in one row without booking them, so that no other session can take them.
+     * The seats must later be either recorded as a booking or released.
+     *
+     * @param concert the concert
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param number the number of seats to claim
+     * @throws SeatUnavailableException if any of the seats is taken or outside the venue
+     */
+    public void claim(Concert concert, int type, int rowNumber, int seatNumber, int number) throws SeatUnavailableException {
+        SeatMap seatMap = seatMaps.get(concert.getConcertId());
+        if (seatMap == null || number <= 0 || rowNumber < 1 || rowNumber > seatMap.getRows(type)
+                || seatNumber < 1 || seatNumber + number - 1 > seatMap.getWidth()) {
+            throw new SeatUnavailableException("Selected seats are not in this venue. Booking cancelled.");
+        }
+        if (!seatMap.reserve(type, rowNumber - 1, seatNumber - 1, number)) {
+            throw new SeatUnavailableException("Selected seats are already booked. Booking cancelled.");
+        }
+    }
+
+    /**
+     * Records a booking for seats already claimed with {@link #claim(Concert, int, int, int, int)},
+     * priced at the concert's current prices.
+     *
+     * @param concert the concert
+     * @param venue the venue where the concert is held
+     * @param customerId the ID of the customer making the booking
+     * @param customerName the name of the customer making the booking
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param number the number of seats
+     * @return the new booking
+     */
+    public Booking record(Concert concert, Venue venue, String customerId, String customerName,
+                          int type, int rowNumber, int seatNumber, int number) {
+        PriceTable prices = concert.getPriceTable(venue);
+        Zone zone = Zone.of(type);
+        TicketStore staged = new TicketStore(number);
+        for (int i = 0; i < number; i ++ ) {
+            int seat = seatNumber + i;
+            staged.add(i + 1, rowNumber, seat, zone, prices.getCents(type, seat));
+        }
+        TicketStore tickets = bookingIndex.getTicketStore(concert.getConcertId());
+        int offset = tickets.append(staged);
+        synchronized (bookingIndex) {
+            int bookingId = bookingIndex.nextBookingId(customerId, concert.getConcertId());
+            Booking booking = new Booking(String.valueOf(bookingId), customerId, customerName, concert.getConcertId(), number, tickets, offset, number,
+                    prices.getVersion());
+            bookings.add(booking);
+            bookingIndex.add(booking);
+            return booking;
+        }
+    }
+
+    /**
+     * Releases seats claimed with {@link #claim(Concert, int, int, int, int)} that were not booked.
+     *
+     * @param concertId the ID of the concert
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param number the number of seats
+     */
+    public void release(String concertId, int type, int rowNumber, int seatNumber, int number) {
+        SeatMap seatMap = seatMaps.get(concertId);
+        if (seatMap != null) {
+            seatMap.release(type, rowNumber - 1, seatNumber - 1, number);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package booking;
+
+import ticket.TicketStore;
+import venue.Venue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The SalesLedger class keeps running totals of the seats sold and revenue of every concert,
+ * by zone and by section. It is built once from the loaded bookings and then updated as each
+ * new booking is made, so reports never have to walk the bookings or their tickets.
+ * All methods are synchronized so the ledger can be shared by concurrent sessions.
+ *
+ * @version 1.0
+ */
+public class SalesLedger {
+
+    /**
+     * The sales of each concert, keyed by concert ID.
+     */
+    private final Map<String, ConcertSales> sales = new HashMap<>();
+
+    /**
+     * Adds the tickets of a booking to the totals of its concert.
+     *
+     * @param booking the booking to add
+     * @param venue the venue of the concert, used to find the section of each seat, or null if it is not loaded
+     */
+    public synchronized void record(Booking booking, Venue venue) {
+        ConcertSales concertSales = sales.get(booking.getConcertId());
+        if (concertSales == null) {
+            concertSales = new ConcertSales();
+            sales.put(booking.getConcertId(), concertSales);
+        }
+        TicketStore tickets = booking.getTicketStore();
+        for (int i = booking.getTicketOffset(); i < booking.getTicketOffset() + booking.getTicketCount(); i++) {
+            int section = -1;
+            if (venue != null) {
+                int seat = tickets.getSeatNumber(i);
+                if (seat <= venue.getLeft()) {
+                    section = 0;
+                } else if (seat <= venue.getLeft() + venue.getMiddle()) {
+                    section = 1;
+                } else {
+                    section = 2;
+                }
+            }
+            concertSales.add(tickets.getZone(i).ordinal(), section, tickets.getPriceCents(i));
+        }
+    }
+
+    /**
+     * Returns the sales of a concert.
+     *
+     * @param concertId the ID of the concert
+     * @return a copy of the concert's totals, empty if nothing was sold
+     */
+    public synchronized ConcertSales getSales(String concertId) {
+        ConcertSales concertSales = sales.get(concertId);
+        return concertSales == null ? new ConcertSales() : new ConcertSales(concertSales);
+    }
+
+    /**
+     * Returns the total revenue of a concert in cents.
+     *
+     * @param concertId the ID of the concert
+     * @return the revenue in cents
+     */
+    public synchronized long getRevenueCents(String concertId) {
+        ConcertSales concertSales = sales.get(concertId);
+        return concertSales == null ? 0 : concertSales.getRevenueCents();
+    }
+
+    /**
+     * Returns the number of seats sold for a concert.
+     *
+     * @param concertId the ID of the concert
+     * @return the seats sold
+     */
+    public synchronized int getSeatsSold(String concertId) {
+        ConcertSales concertSales = sales.get(concertId);
+        return concertSales == null ? 0 : concertSales.getSeatsSold();
+    }
+
+    /**
+     * Removes all totals, before the ledger is rebuilt.
+     */
+    public synchronized void clear() {
+        sales.clear();
+    }
+}
@@ -0,0 +1,96 @@
+package booking;
+
+/**
+ * The SeatBlock class describes a run of adjacent free seats in one row, as found by the {@link SeatFinder}.
+ *
+ * @version 1.0
+ */
+public class SeatBlock {
+
+    /**
+     * The type of the zone (0 for VIP, 1 for seating, 2 for standing).
+     */
+    private final int type;
+
+    /**
+     * The row number, starting from 1.
+     */
+    private final int rowNumber;
+
+    /**
+     * The number of the first seat, starting from 1.
+     */
+    private final int seatNumber;
+
+    /**
+     * The number of seats in the block.
+     */
+    private final int count;
+
+    /**
+     * The total price of the seats in the block.
+     */
+    private final double totalPrice;
+
+    /**
+     * Constructs a SeatBlock.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param count the number of seats in the block
+     * @param totalPrice the total price of the seats in the block
+     */
+    public SeatBlock(int type, int rowNumber, int seatNumber, int count, double totalPrice) {
+        this.type = type;
+        this.rowNumber = rowNumber;
+        this.seatNumber = seatNumber;
+        this.count = count;
+        this.totalPrice = totalPrice;
+    }
+
+    /**
+     * Returns the type of the zone.
+     *
+     * @return the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Returns the row number.
+     *
+     * @return the row number, starting from 1
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Returns the number of the first seat.
+     *
+     * @return the number of the first seat, starting from 1
+     */
+    public int getSeatNumber() {
+        return seatNumber;
+    }
+
+    /**
+     * Returns the number of seats in the block.
+     *
+     * @return the number of seats
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the total price of the seats in the block.
+     *
+     * @return the total price
+     */
+    public double getTotalPrice() {
+        return totalPrice;
+    }
+}
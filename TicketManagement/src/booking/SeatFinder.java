@@ -0,0 +1,165 @@
+package booking;
+
+import concert.Concert;
+import concert.PriceTable;
+import venue.FreeRunIndex;
+import venue.SeatMap;
+import venue.Venue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The SeatFinder class finds the best available run of adjacent seats in a zone of a concert.
+ * Blocks never cross the gaps between the left, middle and right sections of a row.
+ * The search uses the {@link FreeRunIndex} of each row, so it takes logarithmic time per row
+ * however full the venue is, and rows whose longest free run is too short are skipped without searching.
+ *
+ * @version 1.0
+ */
+public class SeatFinder {
+
+    /**
+     * What makes one block of seats better than another.
+     */
+    public enum Preference {
+
+        /**
+         * The lowest total price, then the row closest to the stage.
+         */
+        CHEAPEST,
+
+        /**
+         * The closest to the centre of the row, then the row closest to the stage.
+         */
+        CENTRAL
+    }
+
+    /**
+     * Finds the best available block of adjacent seats in a zone.
+     *
+     * @param concert the concert, used for seat prices
+     * @param venue the venue where the concert is held
+     * @param seats the occupancy of the concert's seats
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param count the number of adjacent seats
+     * @param preference what makes one block better than another
+     * @return the best block, or null if no row of the zone has enough adjacent free seats
+     */
+    public static SeatBlock find(Concert concert, Venue venue, SeatMap seats, int type, int count, Preference preference) {
+        if (seats == null || count <= 0 || type < 0 || type > 2) {
+            return null;
+        }
+        final int[] bounds = {0, venue.getLeft(), venue.getLeft() + venue.getMiddle(), seats.getWidth()};
+        if (preference == Preference.CHEAPEST) {
+            return findCheapest(concert, venue, seats, type, count, bounds);
+        }
+        return findCentral(concert, venue, seats, type, count, bounds);
+    }
+
+    /**
+     * Finds the cheapest block, searching the sections from the lowest price up.
+     *
+     * @param concert the concert, used for seat prices
+     * @param venue the venue where the concert is held
+     * @param seats the occupancy of the concert's seats
+     * @param type the type of the zone
+     * @param count the number of adjacent seats
+     * @param bounds the first seat of each section and the end of the row
+     * @return the cheapest block, or null if there is none
+     */
+    private static SeatBlock findCheapest(Concert concert, Venue venue, SeatMap seats, int type, int count, final int[] bounds) {
+        PriceTable table = concert.getPriceTable(venue);
+        final double[] prices = new double[3];
+        Integer[] sections = {0, 1, 2};
+        for (int section = 0; section < 3; section++) {
+            prices[section] = table.getPrice(type, bounds[section] + 1);
+        }
+        Arrays.sort(sections, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(prices[a], prices[b]);
+            }
+        });
+        int level = 0;
+        while (level < 3) {
+            // Sections with the same price are searched together, row by row
+            int end = level + 1;
+            while (end < 3 && prices[sections[end]] == prices[sections[level]]) {
+                end++;
+            }
+            for (int i = 0; i < seats.getRows(type); i++) {
+                FreeRunIndex index = seats.getFreeRuns(type, i);
+                if (index.longestRun() < count) {
+                    continue;
+                }
+                for (int k = level; k < end; k++) {
+                    int section = sections[k];
+                    int seat = index.first(count, bounds[section], bounds[section + 1]);
+                    if (seat >= 0) {
+                        return block(concert, venue, type, i, seat, count);
+                    }
+                }
+            }
+            level = end;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the block closest to the centre of the row.
+     *
+     * @param concert the concert, used for seat prices
+     * @param venue the venue where the concert is held
+     * @param seats the occupancy of the concert's seats
+     * @param type the type of the zone
+     * @param count the number of adjacent seats
+     * @param bounds the first seat of each section and the end of the row
+     * @return the most central block, or null if there is none
+     */
+    private static SeatBlock findCentral(Concert concert, Venue venue, SeatMap seats, int type, int count, int[] bounds) {
+        int target = (seats.getWidth() - count) / 2;
+        int bestRow = -1;
+        int bestSeat = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < seats.getRows(type) && bestDistance > 0; i++) {
+            FreeRunIndex index = seats.getFreeRuns(type, i);
+            if (index.longestRun() < count) {
+                // No run in the row is long enough, so none of its sections needs searching
+                continue;
+            }
+            for (int section = 0; section < 3; section++) {
+                int from = bounds[section];
+                int to = bounds[section + 1];
+                int[] candidates = {
+                        index.first(count, Math.max(from, target), to),
+                        index.last(count, from, Math.min(to, target + count))
+                };
+                for (int seat : candidates) {
+                    if (seat >= 0 && Math.abs(seat - target) < bestDistance) {
+                        bestDistance = Math.abs(seat - target);
+                        bestRow = i;
+                        bestSeat = seat;
+                    }
+                }
+            }
+        }
+        return bestRow < 0 ? null : block(concert, venue, type, bestRow, bestSeat, count);
+    }
+
+    /**
+     * Creates a block and prices its seats.
+     *
+     * @param concert the concert, used for seat prices
+     * @param venue the venue where the concert is held
+     * @param type the type of the zone
+     * @param i the row index
+     * @param j the index of the first seat
+     * @param count the number of seats
+     * @return the block
+     */
+    private static SeatBlock block(Concert concert, Venue venue, int type, int i, int j, int count) {
+        long cents = concert.getPriceTable(venue).getCents(type, j + 1, count);
+        return new SeatBlock(type, i + 1, j + 1, count, cents / 100.0);
+    }
+}
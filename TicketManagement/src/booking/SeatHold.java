@@ -0,0 +1,146 @@
+package booking;
+
+import utils.TimingWheel;
+
+/**
+ * The SeatHold class is a time-limited claim on a run of adjacent seats, placed by a customer
+ * before confirming a booking. While the hold is active no other customer can book the seats;
+ * it ends when it is confirmed into a {@link Booking}, released, or expires.
+ *
+ * @version 1.0
+ */
+public class SeatHold {
+
+    /**
+     * The unique ID of the hold.
+     */
+    private final long holdId;
+
+    /**
+     * The ID of the customer holding the seats.
+     */
+    private final String customerId;
+
+    /**
+     * The ID of the concert.
+     */
+    private final String concertId;
+
+    /**
+     * The type of the zone (0 for VIP, 1 for seating, 2 for standing).
+     */
+    private final int type;
+
+    /**
+     * The row number, starting from 1.
+     */
+    private final int rowNumber;
+
+    /**
+     * The number of the first seat, starting from 1.
+     */
+    private final int seatNumber;
+
+    /**
+     * The number of seats held.
+     */
+    private final int count;
+
+    /**
+     * The pending expiry of the hold, set once it is scheduled.
+     */
+    volatile TimingWheel.Timeout<SeatHold> timeout;
+
+    /**
+     * Constructs a SeatHold.
+     *
+     * @param holdId the unique ID of the hold
+     * @param customerId the ID of the customer holding the seats
+     * @param concertId the ID of the concert
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param count the number of seats held
+     */
+    SeatHold(long holdId, String customerId, String concertId, int type, int rowNumber, int seatNumber, int count) {
+        this.holdId = holdId;
+        this.customerId = customerId;
+        this.concertId = concertId;
+        this.type = type;
+        this.rowNumber = rowNumber;
+        this.seatNumber = seatNumber;
+        this.count = count;
+    }
+
+    /**
+     * Returns the unique ID of the hold.
+     *
+     * @return the hold ID
+     */
+    public long getHoldId() {
+        return holdId;
+    }
+
+    /**
+     * Returns the ID of the customer holding the seats.
+     *
+     * @return the customer ID
+     */
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    /**
+     * Returns the ID of the concert.
+     *
+     * @return the concert ID
+     */
+    public String getConcertId() {
+        return concertId;
+    }
+
+    /**
+     * Returns the type of the zone.
+     *
+     * @return the zone type (0 for VIP, 1 for seating, 2 for standing)
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Returns the row number.
+     *
+     * @return the row number, starting from 1
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Returns the number of the first seat held.
+     *
+     * @return the seat number, starting from 1
+     */
+    public int getSeatNumber() {
+        return seatNumber;
+    }
+
+    /**
+     * Returns the number of seats held.
+     *
+     * @return the number of seats
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the time the hold expires.
+     *
+     * @return the expiry time in milliseconds of the hold manager's clock
+     */
+    public long getExpiresAt() {
+        return timeout.getDeadline();
+    }
+}
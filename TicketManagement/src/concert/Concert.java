@@ -1,12 +1,17 @@
 package concert;
 
-import utils.Constants;
+import ticket.Zone;
 import venue.Venue;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * The Concert class represents a concert in the ticket management system.
  * It includes the concert's ID, date, timing, artist name, venue name, and zone pricing.
  * It also provides methods to get and set the prices for different zones (standing, seating, VIP).
+ * Prices are held in an immutable {@link PriceSnapshot} that is replaced atomically on every change,
+ * so readers never lock and never see a zone half updated. Seat prices are looked up in a {@link PriceTable}
+ * built from the current snapshot.
  *
  * @version 1.0
  */
@@ -43,19 +48,14 @@ public class Concert {
     private String zonePricing;
 
     /**
-     * The prices for standing zone.
-     */
-    private Double[] standingPrice;
-
-    /**
-     * The prices for seating zone.
+     * The current prices of every zone, replaced as a whole whenever a zone's prices change.
      */
-    private Double[] seatingPrice;
+    private final AtomicReference<PriceSnapshot> prices;
 
     /**
-     * The prices for VIP zone.
+     * The price of every seat at the concert's venue, rebuilt when the prices or the venue change.
      */
-    private Double[] vipPrice;
+    private volatile PriceTable priceTable;
 
     /**
      * Constructs a new Concert with the specified details.
@@ -74,19 +74,12 @@ public class Concert {
         this.artistName = artistName;
         this.venueName = venueName;
         this.zonePricing = zonePricing;
-        standingPrice = new Double[3];
-        seatingPrice = new Double[3];
-        vipPrice = new Double[3];
         String[] prices = zonePricing.split(":");
-        standingPrice[0] = Double.parseDouble(prices[1]);
-        standingPrice[1] = Double.parseDouble(prices[2]);
-        standingPrice[2] = Double.parseDouble(prices[3]);
-        seatingPrice[0] = Double.parseDouble(prices[5]);
-        seatingPrice[1] = Double.parseDouble(prices[6]);
-        seatingPrice[2] = Double.parseDouble(prices[7]);
-        vipPrice[0] = Double.parseDouble(prices[9]);
-        vipPrice[1] = Double.parseDouble(prices[10]);
-        vipPrice[2] = Double.parseDouble(prices[11]);
+        this.prices = new AtomicReference<>(new PriceSnapshot(0, new double[][]{
+                {Double.parseDouble(prices[9]), Double.parseDouble(prices[10]), Double.parseDouble(prices[11])},
+                {Double.parseDouble(prices[5]), Double.parseDouble(prices[6]), Double.parseDouble(prices[7])},
+                {Double.parseDouble(prices[1]), Double.parseDouble(prices[2]), Double.parseDouble(prices[3])}
+        }));
     }
 
     /**
@@ -140,7 +133,7 @@ public class Concert {
      * @return the prices for the standing zone
      */
     public Double[] getStandingPrice() {
-        return standingPrice;
+        return prices.get().getZonePrices(2);
     }
 
     /**
@@ -149,7 +142,7 @@ public class Concert {
      * @return the prices for the seating zone
      */
     public Double[] getSeatingPrice() {
-        return seatingPrice;
+        return prices.get().getZonePrices(1);
     }
 
     /**
@@ -158,7 +151,17 @@ public class Concert {
      * @return the prices for the VIP zone
      */
     public Double[] getVipPrice() {
-        return vipPrice;
+        return prices.get().getZonePrices(0);
+    }
+
+    /**
+     * Returns the current prices of every zone. Use one snapshot to read several prices that must
+     * come from the same update.
+     *
+     * @return the current price snapshot
+     */
+    public PriceSnapshot getPrices() {
+        return prices.get();
     }
 
     /**
@@ -169,56 +172,41 @@ public class Concert {
      * @param venue     the venue where the concert is held
      * @return the price of the specified seat
      */
-    public Double getSeatPrice(int type, int seatNumber, Venue venue) {
-        if (type == 0) {
-            if (seatNumber <= venue.getLeft()) {
-                return vipPrice[0];
-            } else if (seatNumber <= venue.getLeft() + venue.getMiddle()) {
-                return vipPrice[1];
-            } else if (seatNumber <= venue.getLeft() + venue.getMiddle() + venue.getRight()) {
-                return vipPrice[2];
-            }
-        } else if (type == 1) {
-            if (seatNumber <= venue.getLeft()) {
-                return seatingPrice[0];
-            } else if (seatNumber <= venue.getLeft() + venue.getMiddle()) {
-                return seatingPrice[1];
-            } else if (seatNumber <= venue.getLeft() + venue.getMiddle() + venue.getRight()) {
-                return seatingPrice[2];
-            }
-        } else {
-            if (seatNumber <= venue.getLeft()) {
-                return standingPrice[0];
-            } else if (seatNumber <= venue.getLeft() + venue.getMiddle()) {
-                return standingPrice[1];
-            } else if (seatNumber <= venue.getLeft() + venue.getMiddle() + venue.getRight()) {
-                return standingPrice[2];
-            }
+    public double getSeatPrice(int type, int seatNumber, Venue venue) {
+        return getPriceTable(venue).getPrice(type == 0 || type == 1 ? type : 2, seatNumber);
+    }
+
+    /**
+     * Returns the price of every seat of the venue at the current prices.
+     * The table is cached and rebuilt when the prices or the venue change, without taking a lock;
+     * two threads may occasionally both build the same table.
+     *
+     * @param venue the venue where the concert is held
+     * @return the price table for the venue
+     */
+    public PriceTable getPriceTable(Venue venue) {
+        PriceSnapshot snapshot = prices.get();
+        PriceTable table = priceTable;
+        if (table == null || !table.isFor(venue) || table.getVersion() != snapshot.getVersion()) {
+            table = new PriceTable(venue, snapshot);
+            priceTable = table;
         }
-        return 0.0;
+        return table;
     }
 
     /**
-     * Sets the prices for a specific zone.
+     * Sets the prices for a specific zone by publishing a new price snapshot.
+     * Bookings being priced at the same time keep using the snapshot they started with.
      *
-     * @param zone   the type of the zone (VIP, SEATING, STANDING)
+     * @param zone   the zone
      * @param left   the price for the left section
      * @param middle the price for the middle section
      * @param right  the price for the right section
      */
-    public void setSeatPrice(String zone, Double left, Double middle, Double right) {
-        if (zone.equals(Constants.VIP)) {
-            vipPrice[0] = left;
-            vipPrice[1] = middle;
-            vipPrice[2] = right;
-        } else if (zone.equals(Constants.SEATING)) {
-            seatingPrice[0] = left;
-            seatingPrice[1] = middle;
-            seatingPrice[2] = right;
-        } else {
-            standingPrice[0] = left;
-            standingPrice[1] = middle;
-            standingPrice[2] = right;
-        }
+    public void setSeatPrice(Zone zone, Double left, Double middle, Double right) {
+        PriceSnapshot current;
+        do {
+            current = prices.get();
+        } while (!prices.compareAndSet(current, current.withZone(zone.ordinal(), left, middle, right)));
     }
 }
@@ -0,0 +1,353 @@
+package concert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The ConcertCatalogue class indexes the loaded concerts for lookups by ID and for queries by date, artist and venue.
+ * Each concert's date and timing are parsed once into a sortable key counting minutes from year 0, and the concerts
+ * are kept in an array sorted by that key, so a date range is found with two binary searches.
+ * For every artist and every venue, the positions of its concerts in that array are kept in ascending order,
+ * so their shows come out in date order and can be cut to a date range by binary search as well.
+ * Queries therefore only touch the concerts they return, however large the catalogue.
+ * The catalogue is built once the concert file is loaded and does not change afterwards.
+ *
+ * @version 1.0
+ */
+public class ConcertCatalogue {
+
+    /**
+     * The key of concerts whose date or timing cannot be parsed, which sort after every other concert.
+     */
+    public static final long UNDATED = Long.MAX_VALUE;
+
+    /**
+     * The number of low bits of a sort entry that hold the concert's position in the concert file.
+     */
+    private static final int INDEX_BITS = 30;
+
+    /**
+     * The number of minutes in a day.
+     */
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * The largest key a sort entry can hold, which undated concerts are sorted as.
+     */
+    private static final long MAX_SORT_KEY = (1L << (63 - INDEX_BITS)) - 1;
+
+    /**
+     * The concerts by ID; the first concert wins if the concert file repeats an ID.
+     */
+    private final Map<String, Concert> byId;
+
+    /**
+     * The concerts, sorted by date and timing and then by their order in the concert file.
+     */
+    private final Concert[] concerts;
+
+    /**
+     * The date and timing key of each concert, in the same order.
+     */
+    private final long[] keys;
+
+    /**
+     * The positions of the concerts of each artist, keyed by lower-case artist name.
+     */
+    private final Map<String, int[]> byArtist;
+
+    /**
+     * The positions of the concerts at each venue, keyed by lower-case venue name.
+     */
+    private final Map<String, int[]> byVenue;
+
+    /**
+     * Constructs a ConcertCatalogue of the given concerts.
+     *
+     * @param concerts the concerts, in the order of the concert file
+     */
+    public ConcertCatalogue(List<Concert> concerts) {
+        int size = concerts.size();
+        if (size > 1 << INDEX_BITS) {
+            throw new IllegalArgumentException("Too many concerts: " + size);
+        }
+        this.byId = new HashMap<>(size * 4 / 3 + 1);
+        // Each entry holds a concert's key above its position in the file, so sorting the entries
+        // orders the concerts by date and timing, and keeps concerts at the same time in file order
+        long[] entries = new long[size];
+        for (int i = 0; i < size; i++) {
+            Concert concert = concerts.get(i);
+            byId.putIfAbsent(concert.getConcertId(), concert);
+            long key = key(concert.getDate(), concert.getTiming());
+            entries[i] = (key == UNDATED ? MAX_SORT_KEY : key) << INDEX_BITS | i;
+        }
+        Arrays.sort(entries);
+        this.concerts = new Concert[size];
+        this.keys = new long[size];
+        Map<String, Positions> artists = new HashMap<>();
+        Map<String, Positions> venues = new HashMap<>();
+        for (int position = 0; position < size; position++) {
+            long key = entries[position] >>> INDEX_BITS;
+            Concert concert = concerts.get((int) (entries[position] & ((1L << INDEX_BITS) - 1)));
+            this.concerts[position] = concert;
+            this.keys[position] = key == MAX_SORT_KEY ? UNDATED : key;
+            add(artists, normalize(concert.getArtistName()), position);
+            add(venues, normalize(concert.getVenueName()), position);
+        }
+        this.byArtist = toArrays(artists);
+        this.byVenue = toArrays(venues);
+    }
+
+    /**
+     * Returns a concert by ID.
+     *
+     * @param concertId the ID of the concert
+     * @return the concert, or null if there is none with this ID
+     */
+    public Concert get(String concertId) {
+        return byId.get(concertId);
+    }
+
+    /**
+     * Returns the concerts that match every given criterion. The most selective index is searched
+     * for the date range, and the concerts found are then checked against the other criteria.
+     *
+     * @param artistName the name of the artist, ignoring case, or null for any artist
+     * @param venueName the name of the venue, ignoring case, or null for any venue
+     * @param fromDate the first date as yyyy-MM-dd, or null for no lower bound
+     * @param toDate the last date as yyyy-MM-dd, or null for no upper bound
+     * @return the matching concerts in date order
+     * @throws IllegalArgumentException if a date is not a valid yyyy-MM-dd date
+     */
+    public List<Concert> find(String artistName, String venueName, String fromDate, String toDate) {
+        long from = fromDate == null ? Long.MIN_VALUE : bound(fromDate, 0);
+        long to = toDate == null ? Long.MAX_VALUE : bound(toDate, MINUTES_PER_DAY - 1);
+        List<Concert> found = new ArrayList<>();
+        if (from > to) {
+            return found;
+        }
+        int[] artist = artistName == null ? null : byArtist.get(normalize(artistName));
+        int[] venue = venueName == null ? null : byVenue.get(normalize(venueName));
+        if ((artistName != null && artist == null) || (venueName != null && venue == null)) {
+            return found;
+        }
+        int[] positions = artist == null || (venue != null && venue.length < artist.length) ? venue : artist;
+        if (positions == null) {
+            for (int position = lowerBound(from); position < keys.length && keys[position] <= to; position++) {
+                found.add(concerts[position]);
+            }
+            return found;
+        }
+        // Both lists of positions are sorted, so the other criterion is checked by binary search
+        int[] other = positions == artist ? venue : artist;
+        for (int i = lowerBound(positions, from); i < positions.length && keys[positions[i]] <= to; i++) {
+            if (other == null || Arrays.binarySearch(other, positions[i]) >= 0) {
+                found.add(concerts[positions[i]]);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the sortable key of a date and timing. Keys count minutes from the start of year 0,
+     * taking every month as 31 days long, which keeps them in date order without calendar arithmetic.
+     *
+     * @param date the date, as yyyy-MM-dd
+     * @param timing the timing, as HHmm
+     * @return the key, or {@link #UNDATED} if either cannot be parsed
+     */
+    public static long key(String date, String timing) {
+        long day = parseDate(date);
+        int minute = parseTime(timing);
+        if (day < 0 || minute < 0) {
+            return UNDATED;
+        }
+        return day * MINUTES_PER_DAY + minute;
+    }
+
+    /**
+     * Returns the key of a minute of a date given as a query bound.
+     *
+     * @param date the date, as yyyy-MM-dd
+     * @param minute the minute of the day
+     * @return the key
+     * @throws IllegalArgumentException if the date is not a valid yyyy-MM-dd date
+     */
+    private static long bound(String date, int minute) {
+        long day = parseDate(date);
+        if (day < 0) {
+            throw new IllegalArgumentException("Invalid date: " + date);
+        }
+        return day * MINUTES_PER_DAY + minute;
+    }
+
+    /**
+     * Parses a date.
+     *
+     * @param date the date, as yyyy-MM-dd
+     * @return the number of days from the start of year 0, taking every month as 31 days long, or -1 if it cannot be parsed
+     */
+    private static long parseDate(String date) {
+        if (date == null || date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return -1;
+        }
+        int year = digits(date, 0, 4);
+        int month = digits(date, 5, 7);
+        int day = digits(date, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return -1;
+        }
+        return (year * 12L + month - 1) * 31 + day - 1;
+    }
+
+    /**
+     * Parses a timing.
+     *
+     * @param timing the timing, as HHmm
+     * @return the minute of the day, or -1 if it cannot be parsed
+     */
+    private static int parseTime(String timing) {
+        if (timing == null || timing.length() != 4) {
+            return -1;
+        }
+        int hours = digits(timing, 0, 2);
+        int minutes = digits(timing, 2, 4);
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+            return -1;
+        }
+        return hours * 60 + minutes;
+    }
+
+    /**
+     * Parses a run of decimal digits.
+     *
+     * @param text the text
+     * @param start the index of the first digit
+     * @param end the index after the last digit
+     * @return the number, or -1 if any character is not a digit
+     */
+    private static int digits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the first position whose key is at least the given key.
+     *
+     * @param key the key
+     * @return the position, or the number of concerts if there is none
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index in a list of positions whose concert's key is at least the given key.
+     *
+     * @param positions the positions, in ascending order
+     * @param key the key
+     * @return the index, or the length of the list if there is none
+     */
+    private int lowerBound(int[] positions, long key) {
+        int low = 0;
+        int high = positions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[positions[middle]] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the key a name is indexed under.
+     *
+     * @param name the name of an artist or venue
+     * @return the lower-case name
+     */
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds a position to the positions of a name.
+     *
+     * @param index the positions of each name
+     * @param name the name
+     * @param position the position
+     */
+    private static void add(Map<String, Positions> index, String name, int position) {
+        Positions positions = index.get(name);
+        if (positions == null) {
+            positions = new Positions();
+            index.put(name, positions);
+        }
+        positions.add(position);
+    }
+
+    /**
+     * Trims the positions of every name into arrays.
+     *
+     * @param index the positions of each name
+     * @return the positions of each name as arrays
+     */
+    private static Map<String, int[]> toArrays(Map<String, Positions> index) {
+        Map<String, int[]> arrays = new HashMap<>(index.size() * 4 / 3 + 1);
+        for (Map.Entry<String, Positions> entry : index.entrySet()) {
+            arrays.put(entry.getKey(), Arrays.copyOf(entry.getValue().values, entry.getValue().size));
+        }
+        return arrays;
+    }
+
+    /**
+     * A growing list of positions, kept as primitives while the catalogue is built.
+     */
+    private static final class Positions {
+
+        /**
+         * The positions, followed by unused space.
+         */
+        private int[] values = new int[4];
+
+        /**
+         * The number of positions.
+         */
+        private int size;
+
+        /**
+         * Adds a position.
+         *
+         * @param position the position
+         */
+        private void add(int position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package concert;
+
+/**
+ * The PriceSnapshot class is an immutable set of the section prices of every zone of a concert.
+ * Changing a price creates a new snapshot with the next version number, so a reader holding a
+ * snapshot always sees the left, middle and right prices of each zone from the same update.
+ *
+ * @version 1.0
+ */
+public final class PriceSnapshot {
+
+    /**
+     * The version of the prices, starting from 0 for the prices read from the concert file.
+     */
+    private final int version;
+
+    /**
+     * The section prices, at index type * 3 + section.
+     */
+    private final double[] prices;
+
+    /**
+     * Constructs a PriceSnapshot.
+     *
+     * @param version the version of the prices
+     * @param prices the left, middle and right prices, indexed by zone type (0 for VIP, 1 for seating, 2 for standing)
+     */
+    public PriceSnapshot(int version, double[][] prices) {
+        this.version = version;
+        this.prices = new double[9];
+        for (int type = 0; type < 3; type++) {
+            for (int section = 0; section < 3; section++) {
+                this.prices[type * 3 + section] = prices[type][section];
+            }
+        }
+    }
+
+    /**
+     * Constructs a PriceSnapshot that shares the price array it is given.
+     *
+     * @param version the version of the prices
+     * @param prices the section prices, at index type * 3 + section
+     */
+    private PriceSnapshot(int version, double[] prices) {
+        this.version = version;
+        this.prices = prices;
+    }
+
+    /**
+     * Returns the version of the prices.
+     *
+     * @return the version, starting from 0 for the prices read from the concert file
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the price of one section of a zone.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param section the section (0 for left, 1 for middle, 2 for right)
+     * @return the price of a seat in the section
+     */
+    public double getPrice(int type, int section) {
+        return prices[type * 3 + section];
+    }
+
+    /**
+     * Returns the left, middle and right prices of a zone.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @return a new array of the zone's prices
+     */
+    public Double[] getZonePrices(int type) {
+        return new Double[]{prices[type * 3], prices[type * 3 + 1], prices[type * 3 + 2]};
+    }
+
+    /**
+     * Returns a snapshot with the prices of one zone replaced and the next version number.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param left the price for the left section
+     * @param middle the price for the middle section
+     * @param right the price for the right section
+     * @return the new snapshot
+     */
+    public PriceSnapshot withZone(int type, double left, double middle, double right) {
+        double[] next = prices.clone();
+        next[type * 3] = left;
+        next[type * 3 + 1] = middle;
+        next[type * 3 + 2] = right;
+        return new PriceSnapshot(version + 1, next);
+    }
+}
@@ -0,0 +1,149 @@
+package concert;
+
+import ticket.TicketStore;
+import venue.Venue;
+
+/**
+ * The PriceTable class holds the price of every seat column of a concert at one venue.
+ * The section prices of each zone are expanded into flat primitive arrays indexed by zone type
+ * and seat, so pricing a ticket is a single array read with no section arithmetic or boxing.
+ * A table is immutable and built from one {@link PriceSnapshot}, so every seat in it is priced from the same update.
+ *
+ * @version 1.0
+ */
+public class PriceTable {
+
+    /**
+     * The venue the table was built for.
+     */
+    private final Venue venue;
+
+    /**
+     * The version of the price snapshot the table was built from.
+     */
+    private final int version;
+
+    /**
+     * The number of seats in a row of the venue.
+     */
+    private final int width;
+
+    /**
+     * The price of each seat, at index type * width + seat index.
+     */
+    private final double[] prices;
+
+    /**
+     * The price of each seat in cents, at index type * width + seat index.
+     */
+    private final int[] cents;
+
+    /**
+     * The price of the left section of each zone, which seat numbers below 1 are charged,
+     * as they were when seats were priced section by section.
+     */
+    private final double[] firstPrices = new double[3];
+
+    /**
+     * The price of the left section of each zone in cents, which seat numbers below 1 are charged.
+     */
+    private final int[] firstCents = new int[3];
+
+    /**
+     * Constructs a PriceTable from a snapshot of the concert's prices.
+     *
+     * @param venue the venue the table is built for
+     * @param snapshot the prices of each zone
+     */
+    public PriceTable(Venue venue, PriceSnapshot snapshot) {
+        this.venue = venue;
+        this.version = snapshot.getVersion();
+        int left = venue.getLeft();
+        int middle = venue.getMiddle();
+        this.width = left + middle + venue.getRight();
+        this.prices = new double[3 * width];
+        this.cents = new int[3 * width];
+        for (int type = 0; type < 3; type++) {
+            firstPrices[type] = snapshot.getPrice(type, 0);
+            firstCents[type] = TicketStore.toCents(snapshot.getPrice(type, 0));
+            for (int j = 0; j < width; j++) {
+                int section = j < left ? 0 : j < left + middle ? 1 : 2;
+                prices[type * width + j] = snapshot.getPrice(type, section);
+                cents[type * width + j] = TicketStore.toCents(snapshot.getPrice(type, section));
+            }
+        }
+    }
+
+    /**
+     * Returns whether the table was built for a venue.
+     *
+     * @param venue the venue
+     * @return true if the table prices the seats of this venue
+     */
+    public boolean isFor(Venue venue) {
+        return this.venue == venue;
+    }
+
+    /**
+     * Returns the version of the price snapshot the table was built from.
+     *
+     * @return the price version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the price of a seat.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param seatNumber the seat number, starting from 1
+     * @return the price of the seat, the left section's price below seat 1, or 0 past the end of the row
+     */
+    public double getPrice(int type, int seatNumber) {
+        if (seatNumber < 1) {
+            return firstPrices[type];
+        } else if (seatNumber > width) {
+            return 0.0;
+        }
+        return prices[type * width + seatNumber - 1];
+    }
+
+    /**
+     * Returns the price of a seat in cents.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param seatNumber the seat number, starting from 1
+     * @return the price of the seat in cents, the left section's price below seat 1, or 0 past the end of the row
+     */
+    public int getCents(int type, int seatNumber) {
+        if (seatNumber < 1) {
+            return firstCents[type];
+        } else if (seatNumber > width) {
+            return 0;
+        }
+        return cents[type * width + seatNumber - 1];
+    }
+
+    /**
+     * Returns the total price of a run of adjacent seats in cents.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param count the number of seats
+     * @return the total price of the seats in cents, priced as {@link #getCents(int, int)} prices each seat
+     */
+    public long getCents(int type, int seatNumber, int count) {
+        long total = 0;
+        int below = Math.min(seatNumber + count - 1, 0) - seatNumber + 1;
+        if (below > 0) {
+            total += (long) below * firstCents[type];
+        }
+        int from = Math.max(seatNumber, 1);
+        int to = Math.min(seatNumber + count - 1, width);
+        for (int seat = from; seat <= to; seat++) {
+            total += cents[type * width + seat - 1];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,18 @@
+package exception;
+
+/**
+ * Thrown to indicate that requested seats cannot be booked because they are taken or outside the venue.
+ *
+ * @version 1.0
+ */
+public class SeatUnavailableException extends Exception {
+
+    /**
+     * Constructs a SeatUnavailableException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public SeatUnavailableException(String message) {
+        super(message);
+    }
+}
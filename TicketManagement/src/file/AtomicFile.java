@@ -0,0 +1,99 @@
+package file;
+
+import utils.Constants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The AtomicFile class replaces a data file without ever leaving it half written.
+ * The new content is written to a temporary file next to the target, which is synced to disk
+ * and then renamed over the target in one step when {@link #commit()} is called.
+ * If the writer fails or the program stops before the commit, the original file is left untouched
+ * and closing the AtomicFile removes the temporary file.
+ *
+ * @version 1.0
+ */
+public class AtomicFile implements Closeable {
+
+    /**
+     * The path of the file being replaced.
+     */
+    private final Path target;
+
+    /**
+     * The path of the temporary file the new content is written to.
+     */
+    private final Path temp;
+
+    /**
+     * The channel writing the temporary file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Whether the temporary file has been renamed over the target.
+     */
+    private boolean committed;
+
+    /**
+     * Constructs an AtomicFile and creates its temporary file.
+     *
+     * @param filePath the path of the file to replace
+     * @throws IOException if the temporary file cannot be created
+     */
+    public AtomicFile(String filePath) throws IOException {
+        this.target = Paths.get(filePath);
+        this.temp = Paths.get(filePath + Constants.TEMP_EXTENSION);
+        this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Returns a stream writing the temporary file. The stream is unbuffered.
+     *
+     * @return the output stream
+     */
+    public OutputStream getOutputStream() {
+        return Channels.newOutputStream(channel);
+    }
+
+    /**
+     * Syncs the temporary file to disk and renames it over the target.
+     * Anything written to the stream must be flushed before.
+     *
+     * @throws IOException if the file cannot be synced or renamed
+     */
+    public void commit() throws IOException {
+        channel.force(true);
+        channel.close();
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        committed = true;
+    }
+
+    /**
+     * Closes the temporary file, and deletes it if it was not committed.
+     *
+     * @throws IOException if the temporary file cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package file;
+
+import booking.Booking;
+import user.Customer;
+import utils.Constants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The BookingJournal class is an append-only log of the changes made since the CSV files were last written.
+ * Each new booking, new customer and price change is appended as one line as soon as it happens,
+ * and the log is synced to disk in batches. On startup the journal is replayed on top of the CSV files,
+ * and once it grows past a threshold the data is compacted back into the CSV files and the journal is cleared.
+ *
+ * @version 1.0
+ */
+public class BookingJournal implements Closeable {
+
+    /**
+     * The record type of a new booking, followed by the booking file line.
+     */
+    public static final char BOOKING = 'B';
+
+    /**
+     * The record type of a new customer, followed by the customer file line.
+     */
+    public static final char CUSTOMER = 'C';
+
+    /**
+     * The record type of a price change: concert ID, zone, left, middle and right price.
+     */
+    public static final char PRICE = 'P';
+
+    /**
+     * The path of the journal file.
+     */
+    private final Path path;
+
+    /**
+     * The channel the journal is appended through, opened on the first append.
+     */
+    private FileChannel channel;
+
+    /**
+     * The records read from an existing journal, grouped by record type.
+     */
+    private Map<Character, List<String>> records;
+
+    /**
+     * The number of records in the journal.
+     */
+    private int size;
+
+    /**
+     * The number of appended records not yet synced to disk.
+     */
+    private int pending;
+
+    /**
+     * Constructs a BookingJournal kept next to the given booking file.
+     *
+     * @param bookingFilePath the file path for booking data
+     */
+    public BookingJournal(String bookingFilePath) {
+        this.path = Paths.get(bookingFilePath + Constants.JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns the records of a type left in the journal by previous sessions, in the order they were written.
+     * A trailing record cut short by a crash is ignored.
+     *
+     * @param type the record type
+     * @return the record lines, without the type prefix
+     * @throws IOException if the journal cannot be read
+     */
+    public synchronized List<String> read(char type) throws IOException {
+        if (records == null) {
+            records = new HashMap<>();
+            if (Files.exists(path)) {
+                String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+                int start = 0;
+                int end;
+                while ((end = content.indexOf('\n', start)) >= 0) {
+                    if (end - start >= 2) {
+                        char recordType = content.charAt(start);
+                        if (!records.containsKey(recordType)) {
+                            records.put(recordType, new ArrayList<String>());
+                        }
+                        records.get(recordType).add(content.substring(start + 2, end));
+                        size++;
+                    }
+                    start = end + 1;
+                }
+            }
+        }
+        List<String> lines = records.get(type);
+        return lines == null ? new ArrayList<String>() : lines;
+    }
+
+    /**
+     * Appends a new booking to the journal.
+     *
+     * @param booking the booking to record
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(Booking booking) throws IOException {
+        append(BOOKING, FileSaver.format(booking));
+    }
+
+    /**
+     * Appends a new customer to the journal.
+     *
+     * @param customer the customer to record
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(Customer customer) throws IOException {
+        append(CUSTOMER, FileSaver.format(customer));
+    }
+
+    /**
+     * Appends a price change to the journal.
+     *
+     * @param concertId the ID of the concert
+     * @param zone the zone whose prices changed
+     * @param left the price for the left section
+     * @param middle the price for the middle section
+     * @param right the price for the right section
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(String concertId, String zone, Double left, Double middle, Double right) throws IOException {
+        append(PRICE, concertId + "," + zone + "," + left + "," + middle + "," + right);
+    }
+
+    /**
+     * Appends a record to the journal, syncing it to disk once a batch of records is pending.
+     *
+     * @param type the record type
+     * @param line the record line
+     * @throws IOException if the journal cannot be written
+     */
+    private synchronized void append(char type, String line) throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap((type + "," + line + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        size++;
+        pending++;
+        if (pending >= Constants.JOURNAL_SYNC_BATCH) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces all appended records to disk.
+     *
+     * @throws IOException if the journal cannot be synced
+     */
+    public synchronized void sync() throws IOException {
+        if (channel != null && pending > 0) {
+            channel.force(false);
+        }
+        pending = 0;
+    }
+
+    /**
+     * Returns the number of records in the journal, including those replayed from previous sessions.
+     *
+     * @return the number of records
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Clears the journal after its records have been compacted into the CSV files.
+     *
+     * @throws IOException if the journal cannot be truncated
+     */
+    public synchronized void clear() throws IOException {
+        if (channel != null) {
+            channel.truncate(0);
+            channel.force(true);
+        } else {
+            Files.deleteIfExists(path);
+        }
+        size = 0;
+        pending = 0;
+    }
+
+    /**
+     * Syncs and closes the journal.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            sync();
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package file;
+
+import booking.Booking;
+import booking.BookingIndex;
+import ticket.TicketKey;
+import ticket.TicketStore;
+import ticket.Zone;
+import utils.Constants;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The BookingSnapshot class reads and writes bookings in a compact binary format.
+ * The file starts with a header, followed by one fixed-width record per ticket
+ * (booking index, ticket ID, packed {@link TicketKey} and price) and then a table with
+ * one header per booking. Files are read through a memory-mapped buffer, so loading
+ * a large booking history needs no text parsing.
+ *
+ * @version 1.0
+ */
+public class BookingSnapshot {
+
+    /**
+     * The magic number identifying a booking snapshot ("TMSB").
+     */
+    private static final int MAGIC = 0x544D5342;
+
+    /**
+     * The version of the snapshot format written.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * The first version of the snapshot format, with the row, seat and zone in separate fields.
+     */
+    private static final int VERSION_UNPACKED = 1;
+
+    /**
+     * The size of the file header in bytes: magic, version, booking count and ticket count.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * The size of a ticket record in bytes.
+     */
+    private static final int TICKET_SIZE = 4 + 4 + 4 + 8;
+
+    /**
+     * The size of a ticket record in bytes in the first version of the format.
+     */
+    private static final int TICKET_SIZE_UNPACKED = 4 + 4 + 4 + 4 + 1 + 8;
+
+    /**
+     * The smallest size of a booking header in bytes: the two counts and four empty strings.
+     */
+    private static final int BOOKING_SIZE_MIN = 4 + 4 + 4 * 2;
+
+    /**
+     * Checks whether a booking file path refers to a binary snapshot.
+     *
+     * @param bookingFilePath the file path for booking data
+     * @return true if the path has the binary extension
+     */
+    public static boolean isSnapshot(String bookingFilePath) {
+        return bookingFilePath.endsWith(Constants.BINARY_EXTENSION);
+    }
+
+    /**
+     * Writes bookings to a snapshot file, replacing it in one step once all of it is written.
+     *
+     * @param filePath the file path of the snapshot
+     * @param bookings the bookings to write
+     * @throws IOException if an I/O error occurs during writing
+     */
+    public static void write(String filePath, List<Booking> bookings) throws IOException {
+        int ticketCount = 0;
+        for (Booking booking : bookings) {
+            ticketCount += booking.getTicketCount();
+        }
+        try (AtomicFile file = new AtomicFile(filePath);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.getOutputStream(), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(bookings.size());
+            out.writeInt(ticketCount);
+            for (int i = 0; i < bookings.size(); i++) {
+                Booking booking = bookings.get(i);
+                TicketStore tickets = booking.getTicketStore();
+                for (int j = booking.getTicketOffset(); j < booking.getTicketOffset() + booking.getTicketCount(); j++) {
+                    out.writeInt(i);
+                    out.writeInt(tickets.getTicketId(j));
+                    out.writeInt(tickets.getKey(j));
+                    out.writeDouble(tickets.getPriceCents(j) / 100.0);
+                }
+            }
+            for (Booking booking : bookings) {
+                out.writeInt(booking.getTotalTickets());
+                out.writeInt(booking.getTicketCount());
+                writeString(out, booking.getBookingId());
+                writeString(out, booking.getCustomerId());
+                writeString(out, booking.getCustomerName());
+                writeString(out, booking.getConcertId());
+            }
+            out.flush();
+            file.commit();
+        }
+    }
+
+    /**
+     * Reads all bookings from a snapshot file. The tickets are added to the ticket store
+     * of each booking's concert.
+     *
+     * @param filePath the file path of the snapshot
+     * @param bookingIndex the index owning the ticket store of each concert
+     * @return the bookings in the order they were written
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static List<Booking> read(String filePath, BookingIndex bookingIndex) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new IOException(filePath + " is not a valid booking snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION && version != VERSION_UNPACKED) {
+                throw new IOException(filePath + " is not a valid booking snapshot");
+            }
+            int ticketSize = version == VERSION ? TICKET_SIZE : TICKET_SIZE_UNPACKED;
+            int bookingCount = buffer.getInt();
+            int ticketCount = buffer.getInt();
+            long bookingTable = HEADER_SIZE + (long) ticketCount * ticketSize;
+            if (bookingCount < 0 || ticketCount < 0 || bookingTable > buffer.limit()
+                    || (long) bookingCount * BOOKING_SIZE_MIN > buffer.limit() - bookingTable) {
+                throw new IOException(filePath + " is not a valid booking snapshot");
+            }
+            int ticket = HEADER_SIZE;
+            int ticketsLeft = ticketCount;
+            buffer.position((int) bookingTable);
+
+            List<Booking> bookings = new ArrayList<>(bookingCount);
+            TicketStore staged = new TicketStore();
+            try {
+                for (int i = 0; i < bookingCount; i++) {
+                    int totalTickets = buffer.getInt();
+                    int count = buffer.getInt();
+                    if (count < 0 || count > ticketsLeft) {
+                        throw new IOException(filePath + " is not a valid booking snapshot");
+                    }
+                    ticketsLeft -= count;
+                    String bookingId = readString(buffer);
+                    String customerId = readString(buffer);
+                    String customerName = readString(buffer);
+                    String concertId = readString(buffer);
+                    staged.clear();
+                    for (int j = 0; j < count; j++, ticket += ticketSize) {
+                        if (version == VERSION) {
+                            staged.add(buffer.getInt(ticket + 4), buffer.getInt(ticket + 8),
+                                    TicketStore.toCents(buffer.getDouble(ticket + 12)));
+                        } else {
+                            staged.add(buffer.getInt(ticket + 4), buffer.getInt(ticket + 8), buffer.getInt(ticket + 12),
+                                    Zone.of(buffer.get(ticket + 16)), TicketStore.toCents(buffer.getDouble(ticket + 17)));
+                        }
+                    }
+                    TicketStore tickets = bookingIndex.getTicketStore(concertId);
+                    int offset = tickets.append(staged);
+                    bookings.add(new Booking(bookingId, customerId, customerName, concertId, totalTickets, tickets, offset, count));
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException(filePath + " is not a valid booking snapshot", e);
+            }
+            return bookings;
+        }
+    }
+
+    /**
+     * Writes a string as its UTF-8 length followed by its UTF-8 bytes.
+     *
+     * @param out the stream to write to
+     * @param value the string to write
+     * @throws IOException if an I/O error occurs during writing
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     */
+    private static String readString(MappedByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
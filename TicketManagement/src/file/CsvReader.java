@@ -0,0 +1,396 @@
+package file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * The CsvReader class is a streaming tokenizer for the comma separated data files.
+ * Lines are read into a reusable character buffer and split in place, and fields can be
+ * compared, checked and parsed as numbers without creating a String for each of them.
+ * Fields follow the rules of {@code line.split(",")} followed by {@code trim()},
+ * so validation behaves exactly like splitting each line into strings.
+ *
+ * @version 1.0
+ */
+public class CsvReader implements Closeable {
+
+    /**
+     * The powers of ten that are exactly representable as a double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The largest number of significant digits parsed without falling back to the JDK parser.
+     */
+    private static final int MAX_FAST_DIGITS = 15;
+
+    /**
+     * The source of the data, or null if lines are only supplied through {@link #reset(String)}.
+     */
+    private final Reader reader;
+
+    /**
+     * The buffer of characters read from the source.
+     */
+    private final char[] buffer = new char[8192];
+
+    /**
+     * The position of the next unread character in the buffer.
+     */
+    private int position;
+
+    /**
+     * The number of valid characters in the buffer.
+     */
+    private int limit;
+
+    /**
+     * Whether a line feed directly following a carriage return should be skipped.
+     */
+    private boolean skipLineFeed;
+
+    /**
+     * The characters of the current line.
+     */
+    private char[] line = new char[256];
+
+    /**
+     * The number of characters in the current line.
+     */
+    private int length;
+
+    /**
+     * The trimmed start offset of each field of the current line.
+     */
+    private int[] starts = new int[16];
+
+    /**
+     * The trimmed end offset (exclusive) of each field of the current line.
+     */
+    private int[] ends = new int[16];
+
+    /**
+     * The number of fields of the current line.
+     */
+    private int size;
+
+    /**
+     * Constructs a CsvReader over a source of lines.
+     *
+     * @param reader the source of the data
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Constructs a CsvReader for lines supplied through {@link #reset(String)}.
+     */
+    public CsvReader() {
+        this(null);
+    }
+
+    /**
+     * Reads and tokenizes the next line. Lines end with a line feed, a carriage return,
+     * or a carriage return followed by a line feed.
+     *
+     * @return true if a line was read, false at the end of the data
+     * @throws IOException if an I/O error occurs
+     */
+    public boolean next() throws IOException {
+        if (reader == null) {
+            return false;
+        }
+        length = 0;
+        boolean read = false;
+        while (true) {
+            if (position >= limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (!read) {
+                        return false;
+                    }
+                    break;
+                }
+            }
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            read = true;
+            if (c == '\n') {
+                break;
+            }
+            if (c == '\r') {
+                skipLineFeed = true;
+                break;
+            }
+            if (length == line.length) {
+                char[] grown = new char[line.length * 2];
+                System.arraycopy(line, 0, grown, 0, length);
+                line = grown;
+            }
+            line[length++] = c;
+        }
+        tokenize();
+        return true;
+    }
+
+    /**
+     * Replaces the current line with the given text and tokenizes it.
+     *
+     * @param text the line to tokenize
+     */
+    public void reset(String text) {
+        if (text.length() > line.length) {
+            line = new char[Math.max(text.length(), line.length * 2)];
+        }
+        length = text.length();
+        text.getChars(0, length, line, 0);
+        tokenize();
+    }
+
+    /**
+     * Returns the number of fields of the current line, as {@code line.split(",").length} would.
+     *
+     * @return the number of fields
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a field of the current line with surrounding whitespace removed.
+     *
+     * @param index the index of the field
+     * @return the trimmed field
+     */
+    public String get(int index) {
+        check(index);
+        return new String(line, starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * Returns the current line as a string.
+     *
+     * @return the current line
+     */
+    public String line() {
+        return new String(line, 0, length);
+    }
+
+    /**
+     * Checks whether a trimmed field is equal to the given value.
+     *
+     * @param index the index of the field
+     * @param value the value to compare with
+     * @return true if the field equals the value
+     */
+    public boolean equals(int index, String value) {
+        check(index);
+        int start = starts[index];
+        if (ends[index] - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (line[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a trimmed field is a non-empty run of the digits 0 to 9, like the pattern {@code \d+}.
+     *
+     * @param index the index of the field
+     * @return true if the field only contains digits
+     */
+    public boolean isDigits(int index) {
+        check(index);
+        if (ends[index] == starts[index]) {
+            return false;
+        }
+        for (int i = starts[index]; i < ends[index]; i++) {
+            if (line[i] < '0' || line[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a trimmed field consists of exactly the given number of digits, like the pattern {@code \d{n}}.
+     *
+     * @param index the index of the field
+     * @param count the number of digits
+     * @return true if the field has exactly count digits
+     */
+    public boolean isDigits(int index, int count) {
+        return isDigits(index) && ends[index] - starts[index] == count;
+    }
+
+    /**
+     * Parses a trimmed field as an int, like {@link Integer#parseInt(String)}.
+     *
+     * @param index the index of the field
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a valid int
+     */
+    public int getInt(int index) {
+        check(index);
+        int i = starts[index];
+        int end = ends[index];
+        boolean negative = false;
+        if (i < end && (line[i] == '-' || line[i] == '+')) {
+            negative = line[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char c = line[i];
+            if (c < '0' || c > '9') {
+                // Leave other Unicode digits and malformed input to the JDK
+                return Integer.parseInt(get(index));
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses a trimmed field as a double, like {@link Double#parseDouble(String)}.
+     * Plain decimals with up to 15 significant digits are converted in place;
+     * every other form is handed to the JDK parser.
+     *
+     * @param index the index of the field
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a valid double
+     */
+    public double getDouble(int index) {
+        check(index);
+        int i = starts[index];
+        int end = ends[index];
+        boolean negative = false;
+        if (i < end && (line[i] == '-' || line[i] == '+')) {
+            negative = line[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int seen = 0;
+        int digits = 0;
+        int fraction = -1;
+        for (; i < end; i++) {
+            char c = line[i];
+            if (c == '.' && fraction < 0) {
+                fraction = 0;
+            } else if (c >= '0' && c <= '9') {
+                seen++;
+                if (mantissa != 0 || c != '0') {
+                    digits++;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (fraction >= 0) {
+                    fraction++;
+                }
+            } else {
+                return Double.parseDouble(get(index));
+            }
+        }
+        if (fraction < 0) {
+            fraction = 0;
+        }
+        if (seen == 0 || digits > MAX_FAST_DIGITS || fraction >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(get(index));
+        }
+        // Both operands are exact, so the division rounds exactly like the JDK parser
+        double value = mantissa / POWERS_OF_TEN[fraction];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Closes the underlying source.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    /**
+     * Checks that a field exists, failing like an array access past the fields of {@code split}.
+     *
+     * @param index the index of the field
+     */
+    private void check(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Splits the current line into trimmed fields. Like {@code split(",")}, trailing empty
+     * fields are dropped unless the line has no separator at all.
+     */
+    private void tokenize() {
+        size = 0;
+        int start = 0;
+        boolean separated = false;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line[i] == ',') {
+                if (size == starts.length) {
+                    int[] grownStarts = new int[size * 2];
+                    int[] grownEnds = new int[size * 2];
+                    System.arraycopy(starts, 0, grownStarts, 0, size);
+                    System.arraycopy(ends, 0, grownEnds, 0, size);
+                    starts = grownStarts;
+                    ends = grownEnds;
+                }
+                starts[size] = start;
+                ends[size] = i;
+                size++;
+                separated |= i < length;
+                start = i + 1;
+            }
+        }
+        if (separated) {
+            while (size > 0 && ends[size - 1] == starts[size - 1]) {
+                size--;
+            }
+        }
+        for (int field = 0; field < size; field++) {
+            int s = starts[field];
+            int e = ends[field];
+            while (s < e && line[s] <= ' ') {
+                s++;
+            }
+            while (e > s && line[e - 1] <= ' ') {
+                e--;
+            }
+            starts[field] = s;
+            ends[field] = e;
+        }
+    }
+}
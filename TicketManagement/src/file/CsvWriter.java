@@ -0,0 +1,294 @@
+package file;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The CsvWriter class is a streaming writer for the comma separated data files.
+ * Fields are copied straight into a reusable character buffer that is only handed to the
+ * underlying writer when it is full, and numbers are formatted into the buffer digit by digit,
+ * so writing a line creates no intermediate strings. Prices are written exactly as
+ * {@link Double#toString(double)} would write them, so files look the same as before.
+ *
+ * @version 1.0
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    /**
+     * The largest number of cents formatted without falling back to {@link Double#toString(double)},
+     * below which a price is always written in plain decimal notation.
+     */
+    private static final long MAX_FAST_CENTS = 1000000000L;
+
+    /**
+     * The largest number of characters a long takes, including its sign.
+     */
+    private static final int MAX_LONG_DIGITS = 20;
+
+    /**
+     * The writer the buffer is flushed to.
+     */
+    private final Writer out;
+
+    /**
+     * The buffer of characters not yet flushed.
+     */
+    private final char[] buffer;
+
+    /**
+     * The number of characters in the buffer.
+     */
+    private int position;
+
+    /**
+     * Whether nothing has been written to the current line yet.
+     */
+    private boolean lineStart = true;
+
+    /**
+     * Constructs a CsvWriter.
+     *
+     * @param out the writer the lines are written to
+     * @param bufferSize the number of characters buffered before they are written
+     */
+    public CsvWriter(Writer out, int bufferSize) {
+        if (bufferSize < MAX_LONG_DIGITS) {
+            throw new IllegalArgumentException("Buffer size too small: " + bufferSize);
+        }
+        this.out = out;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Starts a new field holding a text.
+     *
+     * @param value the text of the field
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void field(String value) throws IOException {
+        separator();
+        append(value);
+    }
+
+    /**
+     * Starts a new field holding a whole number.
+     *
+     * @param value the number
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void field(long value) throws IOException {
+        separator();
+        append(value);
+    }
+
+    /**
+     * Starts a new field holding a price.
+     *
+     * @param value the price
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void field(double value) throws IOException {
+        separator();
+        append(value);
+    }
+
+    /**
+     * Starts a new field holding a price given in cents.
+     *
+     * @param cents the price in cents
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void cents(long cents) throws IOException {
+        separator();
+        appendCents(cents);
+    }
+
+    /**
+     * Appends a text to the current field.
+     *
+     * @param value the text
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void append(String value) throws IOException {
+        int length = value.length();
+        int offset = 0;
+        while (offset < length) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int count = Math.min(length - offset, buffer.length - position);
+            value.getChars(offset, offset + count, buffer, position);
+            position += count;
+            offset += count;
+        }
+    }
+
+    /**
+     * Appends a character to the current field.
+     *
+     * @param value the character
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void append(char value) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = value;
+    }
+
+    /**
+     * Appends a whole number to the current field.
+     *
+     * @param value the number
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void append(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            append(Long.toString(value));
+            return;
+        }
+        reserve(MAX_LONG_DIGITS);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int end = position + digits(value);
+        int index = end;
+        do {
+            buffer[--index] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position = end;
+    }
+
+    /**
+     * Appends a price to the current field, as {@link Double#toString(double)} would write it.
+     *
+     * @param value the price
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void append(double value) throws IOException {
+        long cents = Math.round(value * 100);
+        if (cents / 100.0 == value && Math.abs(cents) < MAX_FAST_CENTS
+                && (cents != 0 || Double.doubleToRawLongBits(value) == 0L)) {
+            appendCents(cents);
+        } else {
+            append(Double.toString(value));
+        }
+    }
+
+    /**
+     * Appends a price given in cents to the current field, as {@link Double#toString(double)}
+     * would write the price in dollars: at least one decimal and no trailing zeros.
+     *
+     * @param cents the price in cents
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void appendCents(long cents) throws IOException {
+        if (Math.abs(cents) >= MAX_FAST_CENTS) {
+            append(Double.toString(cents / 100.0));
+            return;
+        }
+        if (cents < 0) {
+            append('-');
+            cents = -cents;
+        }
+        append(cents / 100);
+        reserve(3);
+        int fraction = (int) (cents % 100);
+        buffer[position++] = '.';
+        buffer[position++] = (char) ('0' + fraction / 10);
+        if (fraction % 10 != 0) {
+            buffer[position++] = (char) ('0' + fraction % 10);
+        }
+    }
+
+    /**
+     * Ends the current line.
+     *
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void endLine() throws IOException {
+        append('\n');
+        lineStart = true;
+    }
+
+    /**
+     * Writes the buffered characters and flushes the underlying writer.
+     *
+     * @throws IOException if the characters cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * Writes the buffered characters and closes the underlying writer.
+     *
+     * @throws IOException if the characters cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes the separator before a new field, unless it is the first field of the line.
+     *
+     * @throws IOException if the buffer cannot be flushed
+     */
+    private void separator() throws IOException {
+        if (lineStart) {
+            lineStart = false;
+        } else {
+            append(',');
+        }
+    }
+
+    /**
+     * Makes room for a number of characters in the buffer.
+     *
+     * @param count the number of characters about to be written
+     * @throws IOException if the buffer cannot be flushed
+     */
+    private void reserve(int count) throws IOException {
+        if (buffer.length - position < count) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Writes the buffered characters to the underlying writer.
+     *
+     * @throws IOException if the characters cannot be written
+     */
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Counts the decimal digits of a number.
+     *
+     * @param value the number, not negative
+     * @return the number of digits
+     */
+    private static int digits(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+}
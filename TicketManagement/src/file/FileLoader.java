@@ -0,0 +1,631 @@
+package file;
+
+import booking.Booking;
+import booking.BookingIndex;
+import booking.ReservationEngine;
+import concert.Concert;
+import exception.InvalidFormatException;
+import exception.InvalidLineException;
+import metrics.Metrics;
+import ticket.TicketKey;
+import ticket.TicketStore;
+import ticket.Zone;
+import user.Customer;
+import utils.Constants;
+import venue.Venue;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The FileLoader class is responsible for loading the data of customers, concerts, bookings and venues from their files.
+ * It extends the FileOperator class to utilize the common file path and data list functionalities.
+ * All files are read and parsed concurrently on a fork-join pool as soon as {@link #start()} is called,
+ * and large booking files are split into chunks that are parsed in parallel. The results are merged
+ * in file order by the load methods, which print the same messages in the same order as a sequential load.
+ *
+ * @version 1.0
+ */
+public class FileLoader extends FileOperator implements Closeable {
+
+    /**
+     * The zones a ticket may be in, matched against the zone field of a booking line.
+     */
+    private static final Zone[] ZONES = Zone.values();
+
+    /**
+     * The file paths for venue data.
+     */
+    private final List<String> venueFilePaths;
+
+    /**
+     * The map of venue names to Venue objects.
+     */
+    private final Map<String, Venue> venues;
+
+    /**
+     * The index owning the ticket store of each concert.
+     */
+    private final BookingIndex bookingIndex;
+
+    /**
+     * The engine the loaded bookings are registered with.
+     */
+    private final ReservationEngine reservationEngine;
+
+    /**
+     * The pool the files are read and parsed on.
+     */
+    private final ForkJoinPool pool = new ForkJoinPool();
+
+    /**
+     * The task reading the customer file.
+     */
+    private ForkJoinTask<Result<Customer>> customerTask;
+
+    /**
+     * The task reading the concert file.
+     */
+    private ForkJoinTask<Result<Concert>> concertTask;
+
+    /**
+     * The task reading the booking file, with one result per chunk.
+     */
+    private ForkJoinTask<List<Result<Booking>>> bookingTask;
+
+    /**
+     * The task reading the venue files, with one result per file path.
+     */
+    private ForkJoinTask<List<Result<Venue>>> venueTask;
+
+    /**
+     * Constructs a FileLoader with the specified file paths and data lists.
+     *
+     * @param customerFilePath the file path for customer data
+     * @param customers the list the loaded customers are added to
+     * @param concertFilePath the file path for concert data
+     * @param concerts the list the loaded concerts are added to
+     * @param bookingFilePath the file path for booking data
+     * @param bookings the list of bookings, filled by the reservation engine
+     * @param venueFilePaths the file paths for venue data
+     * @param venues the map the loaded venues are added to
+     * @param bookingIndex the index owning the ticket store of each concert
+     * @param reservationEngine the engine the loaded bookings are registered with
+     */
+    public FileLoader(String customerFilePath, List<Customer> customers, String concertFilePath, List<Concert> concerts,
+                      String bookingFilePath, List<Booking> bookings, List<String> venueFilePaths, Map<String, Venue> venues,
+                      BookingIndex bookingIndex, ReservationEngine reservationEngine) {
+        super(customerFilePath, customers, concertFilePath, concerts, bookingFilePath, bookings);
+        this.venueFilePaths = venueFilePaths;
+        this.venues = venues;
+        this.bookingIndex = bookingIndex;
+        this.reservationEngine = reservationEngine;
+    }
+
+    /**
+     * Starts reading all files in the background. Venue files are read once the concert file
+     * is parsed, as only the venues of known concerts and the default venue are loaded.
+     */
+    public void start() {
+        customerTask = pool.submit(new Callable<Result<Customer>>() {
+            @Override
+            public Result<Customer> call() {
+                return readCustomers();
+            }
+        });
+        concertTask = pool.submit(new Callable<Result<Concert>>() {
+            @Override
+            public Result<Concert> call() {
+                return readConcerts();
+            }
+        });
+        bookingTask = pool.submit(new Callable<List<Result<Booking>>>() {
+            @Override
+            public List<Result<Booking>> call() {
+                return readBookings();
+            }
+        });
+        venueTask = pool.submit(new Callable<List<Result<Venue>>>() {
+            @Override
+            public List<Result<Venue>> call() {
+                return readVenues(concertTask.join());
+            }
+        });
+    }
+
+    /**
+     * Adds the customers read from the customer file, printing the messages for skipped lines.
+     *
+     * @return true if the customer file is valid
+     */
+    public boolean loadCustomers() {
+        Result<Customer> result = await(customerTask);
+        customers.addAll(result.merge());
+        return result.valid;
+    }
+
+    /**
+     * Adds the concerts read from the concert file, printing the messages for skipped lines.
+     */
+    public void loadConcerts() {
+        concerts.addAll(await(concertTask).merge());
+    }
+
+    /**
+     * Registers the bookings read from the booking file, printing the messages for skipped lines.
+     */
+    public void loadBookings() {
+        for (Result<Booking> chunk : await(bookingTask)) {
+            for (Booking booking : chunk.merge()) {
+                reservationEngine.register(booking);
+            }
+        }
+    }
+
+    /**
+     * Adds the venues read from the venue files, printing the messages for invalid files and lines.
+     *
+     * @return true if all venue files could be read
+     */
+    public boolean loadVenues() {
+        boolean valid = true;
+        List<Result<Venue>> results = await(venueTask);
+        for (int i = 0; i < results.size(); i++) {
+            Result<Venue> result = results.get(i);
+            if (result == null)    continue;
+            for (Venue venue : result.merge()) {
+                venues.put(extractVenueKey(venueFilePaths.get(i)), venue);
+            }
+            valid &= result.valid;
+        }
+        return valid;
+    }
+
+    /**
+     * Stops any reading still in progress.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Parses a customer from a line of the customer file.
+     *
+     * @param fields the tokenized line from the customer file
+     * @return the parsed customer
+     * @throws InvalidLineException if the line format is invalid
+     * @throws InvalidFormatException if the data format is invalid
+     */
+    public static Customer parseCustomer(CsvReader fields) throws InvalidLineException, InvalidFormatException {
+        if (fields.size() != 3) {
+            throw new InvalidLineException("Invalid Customer Files. Skipping this line.");
+        }
+
+        if (!fields.isDigits(0)) {
+            throw new InvalidFormatException("Customer Id is in incorrect format. Skipping this line.");
+        }
+
+        return new Customer(fields.get(0), fields.get(1), fields.get(2));
+    }
+
+    /**
+     * Parses a concert from a line of the concert file.
+     *
+     * @param fields the tokenized line from the concert file
+     * @return the parsed concert
+     * @throws InvalidLineException if the line format is invalid
+     * @throws InvalidFormatException if the data format is invalid
+     */
+    public static Concert parseConcert(CsvReader fields) throws InvalidLineException, InvalidFormatException {
+        if (fields.size() != 8) {
+            throw new InvalidLineException("Invalid Concert Files. Skipping this line.");
+        }
+
+        if (!fields.isDigits(0)) {
+            throw new InvalidFormatException("Concert Id is in incorrect format. Skipping this line.");
+        }
+        if (!fields.isDigits(2, 4)) {
+            throw new InvalidFormatException("Timing is in incorrect format. Skipping this line.");
+        }
+
+        String zonePricing = fields.get(5) + ":" + fields.get(6) + ":" + fields.get(7);
+        return new Concert(fields.get(0), fields.get(1), fields.get(2), fields.get(3), fields.get(4), zonePricing);
+    }
+
+    /**
+     * Parses a booking from a line of the booking file.
+     * Ticket fields are parsed in place into the staging store, which is only copied
+     * into the concert's ticket store once the whole line is valid.
+     *
+     * @param fields the tokenized line from the booking file
+     * @param staged a reusable store the tickets are parsed into
+     * @return the parsed booking
+     * @throws InvalidLineException if the line format is invalid
+     * @throws InvalidFormatException if the data format is invalid
+     */
+    public Booking parseBooking(CsvReader fields, TicketStore staged) throws InvalidLineException, InvalidFormatException {
+        long start = Metrics.PARSE_BOOKING.start();
+        Object event = Metrics.PARSE_BOOKING.beginEvent();
+        try {
+            int minFixedDataPoints = 5; // Booking ID, Customer ID, Customer Name, Concert ID, Total Tickets
+            if (fields.size() < minFixedDataPoints || (fields.size() - minFixedDataPoints) % 5 != 0) {
+                throw new InvalidLineException("Invalid booking Files. Skipping this line.");
+            }
+
+            String bookingId = fields.get(0);
+            String customerId = fields.get(1);
+            String customerName = fields.get(2);
+            String concertId = fields.get(3);
+            int totalTickets;
+
+            try {
+                totalTickets = fields.getInt(4);
+                if (totalTickets == 0) {
+                    throw new InvalidFormatException("Incorrect Number of Tickets. Skipping this line.");
+                }
+            } catch (NumberFormatException e) {
+                throw new InvalidFormatException("Incorrect Number of Tickets. Skipping this line.");
+            }
+
+            staged.clear();
+            for (int i = 0; i < totalTickets; i++) {
+                int baseIndex = minFixedDataPoints + i * 5;
+                int ticketId = fields.getInt(baseIndex);
+                int rowNumber = fields.getInt(baseIndex + 1);
+                int seatNumber = fields.getInt(baseIndex + 2);
+                double price = fields.getDouble(baseIndex + 4);
+
+                Zone zone = null;
+                for (Zone candidate : ZONES) {
+                    if (fields.equals(baseIndex + 3, candidate.name())) {
+                        zone = candidate;
+                        break;
+                    }
+                }
+                if (zone == null) {
+                    throw new InvalidFormatException("Invalid Zone Type. Skipping this line.");
+                }
+                if (!TicketKey.fits(rowNumber, seatNumber)) {
+                    throw new InvalidFormatException("Invalid Seat Number. Skipping this line.");
+                }
+
+                staged.add(ticketId, TicketKey.pack(zone, rowNumber, seatNumber), TicketStore.toCents(price));
+            }
+
+            TicketStore tickets = bookingIndex.getTicketStore(concertId);
+            int offset = tickets.append(staged);
+            return new Booking(bookingId, customerId, customerName, concertId, totalTickets, tickets, offset, staged.size());
+        } finally {
+            Metrics.PARSE_BOOKING.stop(start, event);
+        }
+    }
+
+    /**
+     * Reads and parses the customer file.
+     *
+     * @return the customers and messages of the customer file
+     */
+    private Result<Customer> readCustomers() {
+        Result<Customer> result = new Result<>();
+        try (CsvReader reader = new CsvReader(new FileReader(customerFilePath))) {
+            while (reader.next()) {
+                try {
+                    result.values.add(parseCustomer(reader));
+                } catch (InvalidLineException | InvalidFormatException e) {
+                    result.messages.add(e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            result.messages.add(customerFilePath + " (No such file or directory)");
+            result.valid = false;
+        } catch (RuntimeException e) {
+            result.failure = e;
+        }
+        return result;
+    }
+
+    /**
+     * Reads and parses the concert file.
+     *
+     * @return the concerts and messages of the concert file
+     */
+    private Result<Concert> readConcerts() {
+        Result<Concert> result = new Result<>();
+        // Check if concert file path is not null or empty
+        if (concertFilePath == null || concertFilePath.isEmpty()) {
+            result.messages.add("Concert file path is not specified.");
+            return result;
+        }
+
+        try (CsvReader reader = new CsvReader(new FileReader(concertFilePath))) {
+            while (reader.next()) {
+                try {
+                    result.values.add(parseConcert(reader));
+                } catch (InvalidLineException | InvalidFormatException e) {
+                    result.messages.add(e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            // A missing concert file leaves the system without concerts
+        } catch (RuntimeException e) {
+            result.failure = e;
+        }
+        return result;
+    }
+
+    /**
+     * Reads and parses the booking file. A CSV file larger than one chunk is split at line
+     * boundaries and the chunks are parsed in parallel.
+     *
+     * @return the bookings and messages of each chunk, in file order
+     */
+    private List<Result<Booking>> readBookings() {
+        List<Result<Booking>> results = new ArrayList<>();
+        String filePath = bookingFilePath;
+        if (!new File(filePath).exists() && new File(siblingBookingFilePath()).exists()) {
+            // Import from the other format; the first save writes the requested one
+            filePath = siblingBookingFilePath();
+        }
+        if (BookingSnapshot.isSnapshot(filePath)) {
+            Result<Booking> result = new Result<>();
+            try {
+                result.values.addAll(BookingSnapshot.read(filePath, bookingIndex));
+            } catch (NoSuchFileException e) {
+            } catch (IOException e) {
+                result.messages.add("Error reading file: " + e.getMessage());
+            }
+            results.add(result);
+            return results;
+        }
+
+        String content;
+        try {
+            content = new String(Files.readAllBytes(Paths.get(filePath)), Charset.defaultCharset());
+        } catch (IOException e) {
+            return results;
+        }
+        List<ForkJoinTask<Result<Booking>>> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.indexOf('\n', Math.min(start + Constants.LOAD_CHUNK_SIZE, content.length()) - 1);
+            end = end < 0 ? content.length() : end + 1;
+            final String chunk = content.substring(start, end);
+            chunks.add(ForkJoinTask.adapt(new Callable<Result<Booking>>() {
+                @Override
+                public Result<Booking> call() {
+                    return readBookingChunk(chunk);
+                }
+            }));
+            start = end;
+        }
+        for (ForkJoinTask<Result<Booking>> chunk : ForkJoinTask.invokeAll(chunks)) {
+            results.add(chunk.join());
+        }
+        return results;
+    }
+
+    /**
+     * Parses a chunk of whole lines of the booking file. Parsing stops at the first line
+     * that fails with an unexpected exception, which is rethrown when the chunk is merged.
+     *
+     * @param chunk the lines to parse
+     * @return the bookings and messages of the chunk
+     */
+    private Result<Booking> readBookingChunk(String chunk) {
+        Result<Booking> result = new Result<>();
+        try (CsvReader reader = new CsvReader(new StringReader(chunk))) {
+            TicketStore staged = new TicketStore();
+            while (reader.next()) {
+                try {
+                    result.values.add(parseBooking(reader, staged));
+                } catch (InvalidLineException | InvalidFormatException e) {
+                    result.messages.add(e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            // Reading from a string does not fail
+        } catch (RuntimeException e) {
+            result.failure = e;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the path of the booking file in the other storage format,
+     * the CSV file for a binary snapshot and the snapshot for a CSV file.
+     *
+     * @return the path of the booking file with the other extension
+     */
+    public String siblingBookingFilePath() {
+        if (BookingSnapshot.isSnapshot(bookingFilePath)) {
+            return bookingFilePath.substring(0, bookingFilePath.length() - Constants.BINARY_EXTENSION.length()) + Constants.CSV_EXTENSION;
+        }
+        if (bookingFilePath.endsWith(Constants.CSV_EXTENSION)) {
+            return bookingFilePath.substring(0, bookingFilePath.length() - Constants.CSV_EXTENSION.length()) + Constants.BINARY_EXTENSION;
+        }
+        return bookingFilePath;
+    }
+
+    /**
+     * Reads the venue files used by the concerts, and the default venue, in parallel.
+     *
+     * @param concertResult the parsed concert file
+     * @return one result per venue file path, or null for files that are not used
+     */
+    private List<Result<Venue>> readVenues(Result<Concert> concertResult) {
+        Set<String> venueKeys = new HashSet<>();
+        for (Concert concert : concertResult.values) {
+            venueKeys.add(concert.getVenueName().toLowerCase());
+        }
+        List<ForkJoinTask<Result<Venue>>> tasks = new ArrayList<>();
+        for (final String filePath : venueFilePaths) {
+            String venueKey = extractVenueKey(filePath);
+            if (!venueKeys.contains(venueKey) && !venueKey.equals(Constants.DEFAULT)) {
+                tasks.add(null);
+                continue;
+            }
+            tasks.add(ForkJoinTask.adapt(new Callable<Result<Venue>>() {
+                @Override
+                public Result<Venue> call() {
+                    return readVenue(filePath);
+                }
+            }).fork());
+        }
+        List<Result<Venue>> results = new ArrayList<>();
+        for (ForkJoinTask<Result<Venue>> task : tasks) {
+            results.add(task == null ? null : task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Reads a venue file.
+     *
+     * @param filePath the file path to read the venue data from
+     * @return the venue and messages of the file
+     */
+    private Result<Venue> readVenue(String filePath) {
+        Result<Venue> result = new Result<>();
+        int vipRows = 0, seatingRows = 0, standingRows = 0;
+        int left = 0, middle = 0, right = 0;
+        boolean flag = true;
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (line.trim().length() == 0)  continue;
+                // Calculate seats for each section
+                if (flag) {
+                    left = parts[1].replaceAll("[\\[\\]]", "").length();
+                    middle = parts[2].replaceAll("[\\[\\]]", "").length();
+                    right = parts[3].replaceAll("[\\[\\]]", "").length();
+                    flag = false;
+                }
+
+                // Update row counts and seat counts based on zone type
+                Zone zone = Zone.ofLabel(parts[0].charAt(0));
+                if (zone == null) {
+                    result.messages.add("Invalid Zone Type. Skipping this line.");
+                    continue;
+                }
+                switch (zone) {
+                    case VIP:
+                        vipRows++;
+                        break;
+                    case SEATING:
+                        seatingRows++;
+                        break;
+                    default:
+                        standingRows++;
+                        break;
+                }
+            }
+            result.values.add(new Venue(vipRows, seatingRows, standingRows, left, middle, right));
+        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
+            result.messages.add("Error reading file: " + e.getMessage());
+            result.valid = false;
+        } catch (RuntimeException e) {
+            result.failure = e;
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the venue key from a file path.
+     *
+     * @param filePath the file path to extract the venue key from
+     * @return the extracted venue key
+     */
+    private static String extractVenueKey(String filePath) {
+        File file = new File(filePath);
+        String fileName = file.getName();
+        return fileName.substring(6, fileName.lastIndexOf('.'));
+    }
+
+    /**
+     * Waits for a reading task to finish.
+     *
+     * @param task the task to wait for
+     * @param <T> the type of the task's result
+     * @return the result of the task
+     */
+    private static <T> T await(ForkJoinTask<T> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The parsed contents of a file or of a chunk of a file.
+     *
+     * @param <T> the type of the parsed values
+     */
+    private static class Result<T> {
+
+        /**
+         * The values parsed from the valid lines, in file order.
+         */
+        private final List<T> values = new ArrayList<>();
+
+        /**
+         * The messages for skipped lines, in file order.
+         */
+        private final List<String> messages = new ArrayList<>();
+
+        /**
+         * Whether the file could be read.
+         */
+        private boolean valid = true;
+
+        /**
+         * The unexpected exception that stopped parsing, or null.
+         */
+        private RuntimeException failure;
+
+        /**
+         * Prints the messages and rethrows the failure, if any.
+         *
+         * @return the parsed values
+         */
+        private List<T> merge() {
+            for (String message : messages) {
+                System.out.println(message);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return values;
+        }
+    }
+}
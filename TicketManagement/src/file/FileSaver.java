@@ -3,21 +3,33 @@ package file;
 import user.Customer;
 import booking.Booking;
 import concert.Concert;
-import ticket.Ticket;
+import concert.PriceSnapshot;
+import metrics.Metrics;
+import ticket.TicketStore;
+import utils.Constants;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
  * The FileSaver class is responsible for saving the data of customers, concerts, and bookings to their respective files.
  * It extends the FileOperator class to utilize the common file path and data list functionalities.
+ * Bookings are written as CSV, or as a {@link BookingSnapshot} when the booking file has the binary extension.
+ * Each file is streamed through a {@link CsvWriter} into an {@link AtomicFile}, so a save that fails
+ * part way leaves the previous file in place.
  *
  * @version 1.0
  */
 public class FileSaver extends FileOperator {
 
+    /**
+     * The number of characters buffered when formatting a single line for the journal.
+     */
+    private static final int LINE_BUFFER_SIZE = 256;
+
     /**
      * Constructs a FileSaver with the specified file paths and data lists.
      *
@@ -38,9 +50,15 @@ public class FileSaver extends FileOperator {
      * @throws IOException if an I/O error occurs during saving
      */
     public void save() throws IOException {
-        saveConcerts();
-        saveBookings();
-        saveCustomers();
+        long start = Metrics.SAVE.start();
+        Object event = Metrics.SAVE.beginEvent();
+        try {
+            saveConcerts();
+            saveBookings();
+            saveCustomers();
+        } finally {
+            Metrics.SAVE.stop(start, event);
+        }
     }
 
     /**
@@ -48,14 +66,44 @@ public class FileSaver extends FileOperator {
      *
      * @throws IOException if an I/O error occurs during saving
      */
-    private void saveCustomers() throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(customerFilePath))) {
+    public void saveCustomers() throws IOException {
+        try (AtomicFile file = new AtomicFile(customerFilePath); CsvWriter writer = open(file)) {
             for (Customer customer : customers) {
-                writer.write(customer.getCustomerId() + "," +
-                        customer.getCustomerName() + "," +
-                        customer.getPassword() + "\n");
+                write(writer, customer);
+                writer.endLine();
             }
+            writer.flush();
+            file.commit();
+        }
+    }
+
+    /**
+     * Formats a customer as a line of the customer file, without the line break.
+     *
+     * @param customer the customer to format
+     * @return the customer line
+     */
+    static String format(Customer customer) {
+        StringWriter line = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(line, LINE_BUFFER_SIZE)) {
+            write(writer, customer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return line.toString();
+    }
+
+    /**
+     * Writes the fields of a customer line.
+     *
+     * @param writer the writer of the customer file
+     * @param customer the customer to write
+     * @throws IOException if an I/O error occurs during writing
+     */
+    private static void write(CsvWriter writer, Customer customer) throws IOException {
+        writer.field(customer.getCustomerId());
+        writer.field(customer.getCustomerName());
+        writer.field(customer.getPassword());
     }
 
     /**
@@ -64,17 +112,38 @@ public class FileSaver extends FileOperator {
      * @throws IOException if an I/O error occurs during saving
      */
     private void saveConcerts() throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(concertFilePath))) {
+        try (AtomicFile file = new AtomicFile(concertFilePath); CsvWriter writer = open(file)) {
             for (Concert concert : concerts) {
-                writer.write(concert.getConcertId() + "," +
-                        concert.getDate() + "," +
-                        concert.getTiming() + "," +
-                        concert.getArtistName() + "," +
-                        concert.getVenueName() + "," +
-                        "STANDING:" + concert.getStandingPrice()[0] + ":" + concert.getStandingPrice()[1] + ":" + concert.getStandingPrice()[2] + "," +
-                        "SEATING:" + concert.getSeatingPrice()[0] + ":" + concert.getSeatingPrice()[1] + ":" + concert.getSeatingPrice()[2] + "," +
-                        "VIP:" + concert.getVipPrice()[0] + ":" + concert.getVipPrice()[1] + ":" + concert.getVipPrice()[2] + "\n");
+                PriceSnapshot prices = concert.getPrices();
+                writer.field(concert.getConcertId());
+                writer.field(concert.getDate());
+                writer.field(concert.getTiming());
+                writer.field(concert.getArtistName());
+                writer.field(concert.getVenueName());
+                writePrices(writer, "STANDING", prices, 2);
+                writePrices(writer, "SEATING", prices, 1);
+                writePrices(writer, "VIP", prices, 0);
+                writer.endLine();
             }
+            writer.flush();
+            file.commit();
+        }
+    }
+
+    /**
+     * Writes the prices of one zone of a concert as a field of the form {@code ZONE:left:middle:right}.
+     *
+     * @param writer the writer of the concert file
+     * @param zoneName the name of the zone
+     * @param prices the prices of the concert
+     * @param type the type of the zone
+     * @throws IOException if an I/O error occurs during writing
+     */
+    private static void writePrices(CsvWriter writer, String zoneName, PriceSnapshot prices, int type) throws IOException {
+        writer.field(zoneName);
+        for (int section = 0; section < 3; section++) {
+            writer.append(':');
+            writer.append(prices.getPrice(type, section));
         }
     }
 
@@ -84,24 +153,67 @@ public class FileSaver extends FileOperator {
      * @throws IOException if an I/O error occurs during saving
      */
     private void saveBookings() throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(bookingFilePath))) {
+        if (BookingSnapshot.isSnapshot(bookingFilePath)) {
+            BookingSnapshot.write(bookingFilePath, bookings);
+            return;
+        }
+        try (AtomicFile file = new AtomicFile(bookingFilePath); CsvWriter writer = open(file)) {
             for (Booking booking : bookings) {
-                String bookingInfo = booking.getBookingId() + "," +
-                        booking.getCustomerId() + "," +
-                        booking.getCustomerName() + "," +
-                        booking.getConcertId() + "," +
-                        booking.getTotalTickets();
+                write(writer, booking);
+                writer.endLine();
+            }
+            writer.flush();
+            file.commit();
+        }
+    }
 
-                for (Ticket ticket : booking.getTickets()) {
-                    bookingInfo += "," + ticket.getTicketId() + "," +
-                            ticket.getRowNumber() + "," +
-                            ticket.getSeatNumber() + "," +
-                            ticket.getZoneType() + "," +
-                            ticket.getPrice();
-                }
+    /**
+     * Formats a booking as a line of the booking file, without the line break.
+     *
+     * @param booking the booking to format
+     * @return the booking line
+     */
+    static String format(Booking booking) {
+        StringWriter line = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(line, LINE_BUFFER_SIZE)) {
+            write(writer, booking);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return line.toString();
+    }
 
-                writer.write(bookingInfo + "\n");
-            }
+    /**
+     * Writes the fields of a booking line, reading the tickets straight from the booking's ticket store.
+     *
+     * @param writer the writer of the booking file
+     * @param booking the booking to write
+     * @throws IOException if an I/O error occurs during writing
+     */
+    private static void write(CsvWriter writer, Booking booking) throws IOException {
+        writer.field(booking.getBookingId());
+        writer.field(booking.getCustomerId());
+        writer.field(booking.getCustomerName());
+        writer.field(booking.getConcertId());
+        writer.field(booking.getTotalTickets());
+        TicketStore tickets = booking.getTicketStore();
+        int end = booking.getTicketOffset() + booking.getTicketCount();
+        for (int i = booking.getTicketOffset(); i < end; i++) {
+            writer.field(tickets.getTicketId(i));
+            writer.field(tickets.getRowNumber(i));
+            writer.field(tickets.getSeatNumber(i));
+            writer.field(tickets.getZone(i).name());
+            writer.cents(tickets.getPriceCents(i));
         }
     }
+
+    /**
+     * Opens a CSV writer on the temporary file of an atomic file, in the platform charset the files are read with.
+     *
+     * @param file the file being replaced
+     * @return the writer
+     */
+    private static CsvWriter open(AtomicFile file) {
+        return new CsvWriter(new OutputStreamWriter(file.getOutputStream()), Constants.WRITE_BUFFER_SIZE);
+    }
 }
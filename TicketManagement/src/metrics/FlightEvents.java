@@ -0,0 +1,63 @@
+package metrics;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * The FlightEvents class begins and commits {@link OperationEvent}s in the JDK Flight Recorder.
+ * It is only called once Flight Recorder is known to be present, as loading it needs the jdk.jfr classes.
+ * Until a recording has been started nothing is created at all; after that an event is only
+ * created while a recording has the event enabled, and only committed if the recording keeps it.
+ *
+ * @version 1.0
+ */
+final class FlightEvents {
+
+    /**
+     * Holds the registered type of {@link OperationEvent}, so that the event is only
+     * registered with Flight Recorder once a recording has been started.
+     */
+    private static final class Registered {
+
+        /**
+         * The type of the operation events.
+         */
+        static final EventType TYPE = EventType.getEventType(OperationEvent.class);
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private FlightEvents() {
+    }
+
+    /**
+     * Begins an event for an operation that is starting, if a recording wants it.
+     *
+     * @param operation the name of the operation
+     * @return the begun event, or null if no recording has the event enabled
+     */
+    static Object begin(String operation) {
+        if (!FlightRecorder.isInitialized() || !Registered.TYPE.isEnabled()) {
+            return null;
+        }
+        OperationEvent event = new OperationEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event of a finished operation and commits it if the recording keeps it,
+     * such as when it lasted longer than the recording's threshold.
+     *
+     * @param begun the event returned by {@link #begin(String)}
+     */
+    static void end(Object begun) {
+        OperationEvent event = (OperationEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+}
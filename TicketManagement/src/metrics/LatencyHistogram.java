@@ -0,0 +1,206 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LatencyHistogram class records latencies into buckets of logarithmically growing width, in the style
+ * of HdrHistogram. Values below 128 get a bucket each; above that, every power of two is split into 64 equal
+ * buckets, so a recorded value is known to within 1/64 of itself across the whole range, up to about 4.8 hours
+ * in nanoseconds. Recording increments a slot of a fixed array, so it takes no lock and allocates nothing,
+ * and it can be called from many threads at once.
+ *
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * The magnitude of the number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKET_MAGNITUDE = 6;
+
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_MAGNITUDE;
+
+    /**
+     * The mask of the values that get a bucket each.
+     */
+    private static final long SUB_BUCKET_MASK = (SUB_BUCKET_HALF_COUNT << 1) - 1;
+
+    /**
+     * The largest value that can be recorded; larger values are recorded as this.
+     */
+    private static final long MAX_VALUE = (1L << 44) - 1;
+
+    /**
+     * The number of values recorded in each bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_VALUE) + 1);
+
+    /**
+     * The sum of the values recorded.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The largest value recorded.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, such as a latency in nanoseconds
+     */
+    public void record(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts.incrementAndGet(indexOf(clamped));
+        sum.add(clamped);
+        long current = max.get();
+        while (clamped > current && !max.compareAndSet(current, clamped)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Returns a copy of the values recorded so far. Values recorded while the copy is taken may or may not be in it.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, sum.sum(), max.get());
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Returns the index of the bucket a value is recorded in.
+     *
+     * @param value the value, between 0 and the largest value
+     * @return the index of the bucket
+     */
+    private static int indexOf(long value) {
+        int bucket = 63 - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK) - SUB_BUCKET_MAGNITUDE;
+        return (bucket << SUB_BUCKET_MAGNITUDE) + (int) (value >>> bucket);
+    }
+
+    /**
+     * Returns the largest value recorded in a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the largest value of the bucket
+     */
+    private static long highestValueAt(int index) {
+        int bucket = (index >> SUB_BUCKET_MAGNITUDE) - 1;
+        long subBucket = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucket < 0) {
+            bucket = 0;
+            subBucket -= SUB_BUCKET_HALF_COUNT;
+        }
+        return (subBucket << bucket) + (1L << bucket) - 1;
+    }
+
+    /**
+     * A copy of the values recorded in a histogram at one time.
+     */
+    public static final class Snapshot {
+
+        /**
+         * The number of values in each bucket.
+         */
+        private final long[] counts;
+
+        /**
+         * The number of values.
+         */
+        private final long count;
+
+        /**
+         * The sum of the values.
+         */
+        private final long sum;
+
+        /**
+         * The largest value.
+         */
+        private final long max;
+
+        /**
+         * Constructs a Snapshot.
+         *
+         * @param counts the number of values in each bucket
+         * @param count the number of values
+         * @param sum the sum of the values
+         * @param max the largest value
+         */
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * Returns the number of values.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the mean of the values.
+         *
+         * @return the mean, or 0 if there are none
+         */
+        public double getMean() {
+            return count == 0 ? 0 : sum / (double) count;
+        }
+
+        /**
+         * Returns the largest value.
+         *
+         * @return the largest value, or 0 if there are none
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the value that a given percentage of the values are at or below, to the precision of the buckets.
+         *
+         * @param percentile the percentage, between 0 and 100
+         * @return the value at the percentile, or 0 if there are none
+         */
+        public long getValueAtPercentile(double percentile) {
+            long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueAt(i), max);
+                }
+            }
+            return 0;
+        }
+    }
+}
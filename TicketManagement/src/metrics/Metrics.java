@@ -0,0 +1,86 @@
+package metrics;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Metrics class holds the timed operations of the system and prints a report of them.
+ * Operations are shared by the whole JVM, so that the file loader and saver, which have no
+ * access to the service, can time themselves too.
+ *
+ * @version 1.0
+ */
+public final class Metrics {
+
+    /**
+     * Loading the data files, the journal and the venues.
+     */
+    public static final Operation LOAD = new Operation("load");
+
+    /**
+     * Parsing one line of the booking file.
+     */
+    public static final Operation PARSE_BOOKING = new Operation("parse booking");
+
+    /**
+     * Booking seats, including writing the booking to the journal.
+     */
+    public static final Operation BOOK = new Operation("book");
+
+    /**
+     * Rendering the seat layout of a concert.
+     */
+    public static final Operation LAYOUT = new Operation("layout");
+
+    /**
+     * Writing the customer, concert and booking files.
+     */
+    public static final Operation SAVE = new Operation("save");
+
+    /**
+     * All operations, in the order they are reported.
+     */
+    private static final List<Operation> OPERATIONS =
+            Collections.unmodifiableList(Arrays.asList(LOAD, PARSE_BOOKING, BOOK, LAYOUT, SAVE));
+
+    /**
+     * Prevents instantiation.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * Returns all operations.
+     *
+     * @return the operations
+     */
+    public static List<Operation> getOperations() {
+        return OPERATIONS;
+    }
+
+    /**
+     * Prints the number of runs and the latencies of every operation, in microseconds.
+     *
+     * @param out the stream to print to
+     */
+    public static void report(PrintStream out) {
+        out.printf("%-16s %10s %12s %12s %12s %12s %12s%n", "Operation", "Count", "Mean us", "p50 us", "p90 us", "p99 us", "Max us");
+        for (Operation operation : OPERATIONS) {
+            LatencyHistogram.Snapshot snapshot = operation.snapshot();
+            out.printf("%-16s %10d %12.1f %12.1f %12.1f %12.1f %12.1f%n", operation.getName(), snapshot.getCount(),
+                    snapshot.getMean() / 1e3, snapshot.getValueAtPercentile(50) / 1e3, snapshot.getValueAtPercentile(90) / 1e3,
+                    snapshot.getValueAtPercentile(99) / 1e3, snapshot.getMax() / 1e3);
+        }
+    }
+
+    /**
+     * Removes all recorded runs of every operation.
+     */
+    public static void reset() {
+        for (Operation operation : OPERATIONS) {
+            operation.reset();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The OperationEvent class is the JDK Flight Recorder event committed for each timed operation,
+ * so that loading, booking and saving show up in a recording next to garbage collection and I/O.
+ * Each event is begun when its operation starts and ended when it finishes, so the event's duration is the latency.
+ * Only {@link FlightEvents} refers to it, so that it is never loaded on a JVM without Flight Recorder.
+ *
+ * @version 1.0
+ */
+@Name("ticket.Operation")
+@Label("Ticket Operation")
+@Category("Ticket Management")
+@Description("A timed operation of the ticket management system")
+class OperationEvent extends Event {
+
+    /**
+     * The name of the operation.
+     */
+    @Label("Operation")
+    String operation;
+}
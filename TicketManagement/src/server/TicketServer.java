@@ -0,0 +1,691 @@
+package server;
+
+import booking.Admission;
+import booking.AdmissionQueue;
+import booking.Booking;
+import booking.SeatFinder;
+import booking.SeatHold;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import concert.Concert;
+import concert.PriceSnapshot;
+import exception.IncorrectPasswordException;
+import exception.NotFoundException;
+import service.BookingResult;
+import service.ConcertSummary;
+import service.HoldResult;
+import service.TicketService;
+import ticket.TicketStore;
+import ticket.Zone;
+import user.Customer;
+import utils.Clock;
+import utils.Constants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The TicketServer class serves a {@link TicketService} over HTTP, so one long-running process with
+ * the data loaded once can take bookings from many customers at the same time. It is built on the
+ * JDK's built-in HTTP server, and each request runs on its own virtual thread when the JVM supports
+ * them, falling back to a pool of platform threads on older JVMs. Requests that claim seats first pass
+ * through the concert's admission queue, and are turned away with 503 and Retry-After when it is full
+ * or with 409 once the concert is sold out. Responses are JSON, except layouts which are plain text.
+ * Requests that change or reveal a customer's bookings use HTTP basic authentication with the
+ * customer ID and password.
+ * <pre>
+ * GET  /concerts                    list of concerts with seats left, in date order
+ * GET  /concerts?artist=&amp;venue=&amp;from=&amp;to=  concerts matching an artist, venue and dates, in date order
+ * GET  /concerts/{id}/prices        prices of every zone and section
+ * GET  /concerts/{id}/layout        seating layout
+ * GET  /concerts/{id}/queue         sessions booking and waiting in the admission queue, and seats left
+ * GET  /concerts/{id}/bookings      the customer's bookings for the concert
+ * POST /concerts/{id}/bookings      book zone, row, seat and count, or zone, count and preference
+ * POST /concerts/{id}/holds         hold zone, row, seat and count for a few minutes
+ * GET  /concerts/{id}/holds/{hold}  the customer's active hold
+ * POST /concerts/{id}/holds/{hold}  confirm the hold into a booking
+ * DELETE /concerts/{id}/holds/{hold} release the hold
+ * </pre>
+ *
+ * @version 1.0
+ */
+public class TicketServer {
+
+    /**
+     * The path prefix of all endpoints.
+     */
+    private static final String CONCERTS = "/concerts";
+
+    /**
+     * The service the requests are run against.
+     */
+    private final TicketService service;
+
+    /**
+     * The underlying HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The executor running each request.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a TicketServer bound to a port. Nothing is served until {@link #start()}.
+     *
+     * @param service the loaded service the requests are run against
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public TicketServer(TicketService service, int port) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(new InetSocketAddress(port), Constants.SERVER_BACKLOG);
+        this.executor = newRequestExecutor();
+        server.createContext(CONCERTS, exchange -> {
+            try {
+                handle(exchange);
+            } catch (RuntimeException | IOException e) {
+                System.out.println("Error handling " + exchange.getRequestURI() + ": " + e);
+                if (exchange.getResponseCode() == -1) {
+                    sendError(exchange, 500, "Internal server error.");
+                }
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops serving requests, giving running requests a short time to finish.
+     */
+    public void stop() {
+        server.stop(Constants.SERVER_STOP_DELAY);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Creates the executor for requests: one virtual thread per request when the JVM has them,
+     * otherwise a cached pool of daemon platform threads.
+     *
+     * @return the executor
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            final AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable task) {
+                    Thread thread = new Thread(task, "http-worker-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+    }
+
+    /**
+     * Routes a request to its endpoint.
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the response cannot be sent
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String rest = exchange.getRequestURI().getPath().substring(CONCERTS.length());
+        String[] path = rest.split("/");
+        String method = exchange.getRequestMethod();
+        if (rest.isEmpty() || rest.equals("/")) {
+            if (!method.equals("GET")) {
+                sendError(exchange, 405, "Method not allowed.");
+                return;
+            }
+            listConcerts(exchange);
+            return;
+        }
+        if (path.length == 4 && path[2].equals("holds")) {
+            handleHold(exchange, path[1], path[3]);
+            return;
+        }
+        if (path.length != 3 || !path[0].isEmpty()) {
+            sendError(exchange, 404, "Not found.");
+            return;
+        }
+        Concert concert = service.getConcert(path[1]);
+        if (concert == null) {
+            sendError(exchange, 404, "Concert does not exist.");
+            return;
+        }
+        String resource = path[2];
+        if (resource.equals("prices") && method.equals("GET")) {
+            sendPrices(exchange, concert);
+        } else if (resource.equals("layout") && method.equals("GET")) {
+            sendLayout(exchange, concert);
+        } else if (resource.equals("queue") && method.equals("GET")) {
+            sendQueue(exchange, concert);
+        } else if (resource.equals("bookings") && method.equals("GET")) {
+            Customer customer = authenticate(exchange);
+            if (customer != null) {
+                sendBookings(exchange, service.getBookings(customer.getCustomerId(), concert.getConcertId()));
+            }
+        } else if ((resource.equals("bookings") || resource.equals("holds")) && method.equals("POST")) {
+            Customer customer = authenticate(exchange);
+            if (customer == null) {
+                return;
+            }
+            try (Admission admission = service.admit(concert, Constants.ADMISSION_WAIT_MILLIS)) {
+                if (admission.getPosition() > 0) {
+                    exchange.getResponseHeaders().set("X-Queue-Position", String.valueOf(admission.getPosition()));
+                }
+                if (!admission.isAdmitted()) {
+                    reject(exchange, admission);
+                } else if (resource.equals("bookings")) {
+                    book(exchange, customer, concert);
+                } else {
+                    hold(exchange, customer, concert);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sendError(exchange, 503, "Server is shutting down.");
+            }
+        } else if (resource.equals("prices") || resource.equals("layout") || resource.equals("queue")
+                || resource.equals("bookings") || resource.equals("holds")) {
+            sendError(exchange, 405, "Method not allowed.");
+        } else {
+            sendError(exchange, 404, "Not found.");
+        }
+    }
+
+    /**
+     * Sends the concerts matching the artist, venue and dates given in the query, or every concert, in date order.
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the response cannot be sent
+     */
+    private void listConcerts(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        Map<String, String> filter = query == null ? new HashMap<String, String>() : parseForm(query);
+        List<ConcertSummary> summaries;
+        try {
+            summaries = service.findConcerts(optional(filter, "artist"), optional(filter, "venue"),
+                    optional(filter, "from"), optional(filter, "to"));
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage() + ".");
+            return;
+        }
+        StringBuilder json = new StringBuilder("[");
+        for (ConcertSummary summary : summaries) {
+            Concert concert = summary.getConcert();
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":");
+            quote(json, concert.getConcertId());
+            json.append(",\"date\":");
+            quote(json, concert.getDate());
+            json.append(",\"timing\":");
+            quote(json, concert.getTiming());
+            json.append(",\"artist\":");
+            quote(json, concert.getArtistName());
+            json.append(",\"venue\":");
+            quote(json, concert.getVenueName());
+            json.append(",\"totalSeats\":").append(summary.getTotalSeats())
+                    .append(",\"seatsBooked\":").append(summary.getSeatsBooked())
+                    .append(",\"seatsLeft\":").append(summary.getSeatsLeft()).append('}');
+        }
+        send(exchange, 200, "application/json", json.append(']').toString());
+    }
+
+    /**
+     * Sends the prices of a concert, read from one snapshot so that all zones are from the same version.
+     *
+     * @param exchange the request and its response
+     * @param concert the concert
+     * @throws IOException if the response cannot be sent
+     */
+    private void sendPrices(HttpExchange exchange, Concert concert) throws IOException {
+        PriceSnapshot prices = concert.getPrices();
+        StringBuilder json = new StringBuilder("{\"id\":");
+        quote(json, concert.getConcertId());
+        json.append(",\"version\":").append(prices.getVersion()).append(",\"prices\":{");
+        for (Zone zone : Zone.values()) {
+            if (zone.ordinal() > 0) {
+                json.append(',');
+            }
+            json.append('"').append(zone.name()).append("\":[")
+                    .append(prices.getPrice(zone.ordinal(), 0)).append(',')
+                    .append(prices.getPrice(zone.ordinal(), 1)).append(',')
+                    .append(prices.getPrice(zone.ordinal(), 2)).append(']');
+        }
+        send(exchange, 200, "application/json", json.append("}}").toString());
+    }
+
+    /**
+     * Sends the seating layout of a concert.
+     *
+     * @param exchange the request and its response
+     * @param concert the concert
+     * @throws IOException if the response cannot be sent
+     */
+    private void sendLayout(HttpExchange exchange, Concert concert) throws IOException {
+        if (service.getVenue(concert) == null) {
+            sendError(exchange, 404, "Venue does not exist.");
+            return;
+        }
+        send(exchange, 200, "text/plain", service.renderLayout(concert));
+    }
+
+    /**
+     * Sends the depth of a concert's admission queue: the sessions in the booking flow, the sessions
+     * waiting to enter it, and the seats left to sell.
+     *
+     * @param exchange the request and its response
+     * @param concert the concert
+     * @throws IOException if the response cannot be sent
+     */
+    private void sendQueue(HttpExchange exchange, Concert concert) throws IOException {
+        AdmissionQueue queue = service.getAdmissionQueue(concert);
+        StringBuilder json = new StringBuilder("{\"id\":");
+        quote(json, concert.getConcertId());
+        json.append(",\"active\":").append(queue == null ? 0 : queue.getActive())
+                .append(",\"waiting\":").append(queue == null ? 0 : queue.getWaiting());
+        if (service.getVenue(concert) != null) {
+            json.append(",\"seatsLeft\":").append(service.getSeatsLeft(concert));
+        }
+        send(exchange, 200, "application/json", json.append('}').toString());
+    }
+
+    /**
+     * Books seats for a customer. The form fields are zone and count, plus either row and seat
+     * for the first seat, or preference (cheapest or central) to book the best available seats.
+     *
+     * @param exchange the request and its response
+     * @param customer the authenticated customer
+     * @param concert the concert
+     * @throws IOException if the response cannot be sent or the booking cannot be written to the journal
+     */
+    private void book(HttpExchange exchange, Customer customer, Concert concert) throws IOException {
+        Map<String, String> form = readForm(exchange);
+        if (form == null) {
+            sendError(exchange, 413, "Request body too large.");
+            return;
+        }
+        String zone = form.get("zone");
+        if (zone == null) {
+            sendError(exchange, 400, "Missing field: zone.");
+            return;
+        }
+        BookingResult result;
+        try {
+            int count = Integer.parseInt(form.get("count"));
+            if (form.containsKey("row") || form.containsKey("seat")) {
+                result = service.book(customer.getCustomerId(), concert.getConcertId(), zone,
+                        Integer.parseInt(form.get("row")), Integer.parseInt(form.get("seat")), count);
+            } else {
+                String preference = form.get("preference");
+                SeatFinder.Preference order;
+                if (preference == null || preference.equalsIgnoreCase("cheapest")) {
+                    order = SeatFinder.Preference.CHEAPEST;
+                } else if (preference.equalsIgnoreCase("central")) {
+                    order = SeatFinder.Preference.CENTRAL;
+                } else {
+                    sendError(exchange, 400, "Invalid preference: " + preference + ".");
+                    return;
+                }
+                result = service.bookBestAvailable(customer.getCustomerId(), concert.getConcertId(), zone, count, order);
+            }
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "Invalid or missing count, row or seat.");
+            return;
+        }
+        if (!result.isSuccess()) {
+            sendError(exchange, 409, result.getMessage());
+            return;
+        }
+        StringBuilder json = new StringBuilder();
+        appendBooking(json, result.getBooking());
+        send(exchange, 201, "application/json", json.toString());
+    }
+
+    /**
+     * Turns away a session that was not admitted to the booking flow. A full or slow queue is reported
+     * as 503 with a hint to retry, so clients back off instead of piling up.
+     *
+     * @param exchange the request and its response
+     * @param admission the refused admission
+     * @throws IOException if the response cannot be sent
+     */
+    private static void reject(HttpExchange exchange, Admission admission) throws IOException {
+        if (admission.getStatus() == Admission.Status.SOLD_OUT) {
+            sendError(exchange, 409, "Concert is sold out.");
+            return;
+        }
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        sendError(exchange, 503, "Too many customers are booking this concert. Please try again shortly.");
+    }
+
+    /**
+     * Places a hold on seats for a customer. The form fields are zone, row, seat and count.
+     *
+     * @param exchange the request and its response
+     * @param customer the authenticated customer
+     * @param concert the concert
+     * @throws IOException if the response cannot be sent
+     */
+    private void hold(HttpExchange exchange, Customer customer, Concert concert) throws IOException {
+        Map<String, String> form = readForm(exchange);
+        if (form == null) {
+            sendError(exchange, 413, "Request body too large.");
+            return;
+        }
+        if (form.get("zone") == null) {
+            sendError(exchange, 400, "Missing field: zone.");
+            return;
+        }
+        HoldResult result;
+        try {
+            result = service.holdSeats(customer.getCustomerId(), concert.getConcertId(), form.get("zone"),
+                    Integer.parseInt(form.get("row")), Integer.parseInt(form.get("seat")), Integer.parseInt(form.get("count")));
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "Invalid or missing count, row or seat.");
+            return;
+        }
+        if (!result.isSuccess()) {
+            sendError(exchange, 409, result.getMessage());
+            return;
+        }
+        send(exchange, 201, "application/json", formatHold(result.getHold()));
+    }
+
+    /**
+     * Handles a request on one hold: GET shows it, POST confirms it into a booking and DELETE releases it.
+     *
+     * @param exchange the request and its response
+     * @param concertId the ID of the concert in the path
+     * @param holdId the ID of the hold in the path
+     * @throws IOException if the response cannot be sent or the booking cannot be written to the journal
+     */
+    private void handleHold(HttpExchange exchange, String concertId, String holdId) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (!method.equals("GET") && !method.equals("POST") && !method.equals("DELETE")) {
+            sendError(exchange, 405, "Method not allowed.");
+            return;
+        }
+        Customer customer = authenticate(exchange);
+        if (customer == null) {
+            return;
+        }
+        SeatHold hold;
+        try {
+            hold = service.getHold(customer.getCustomerId(), Long.parseLong(holdId));
+        } catch (NumberFormatException e) {
+            hold = null;
+        }
+        if (hold == null || !hold.getConcertId().equals(concertId)) {
+            sendError(exchange, 404, "Hold does not exist or has expired.");
+            return;
+        }
+        if (method.equals("GET")) {
+            send(exchange, 200, "application/json", formatHold(hold));
+        } else if (method.equals("POST")) {
+            BookingResult result = service.confirmHold(customer.getCustomerId(), hold.getHoldId());
+            if (!result.isSuccess()) {
+                sendError(exchange, 404, result.getMessage());
+                return;
+            }
+            StringBuilder json = new StringBuilder();
+            appendBooking(json, result.getBooking());
+            send(exchange, 201, "application/json", json.toString());
+        } else {
+            try {
+                service.releaseHold(customer.getCustomerId(), hold.getHoldId());
+            } catch (NotFoundException e) {
+                sendError(exchange, 404, e.getMessage());
+                return;
+            }
+            exchange.sendResponseHeaders(204, -1);
+        }
+    }
+
+    /**
+     * Formats a hold as a JSON object.
+     *
+     * @param hold the hold
+     * @return the JSON text
+     */
+    private String formatHold(SeatHold hold) {
+        StringBuilder json = new StringBuilder("{\"holdId\":").append(hold.getHoldId()).append(",\"concertId\":");
+        quote(json, hold.getConcertId());
+        json.append(",\"zone\":\"").append(Zone.of(hold.getType()).name())
+                .append("\",\"row\":").append(hold.getRowNumber())
+                .append(",\"seat\":").append(hold.getSeatNumber())
+                .append(",\"count\":").append(hold.getCount())
+                .append(",\"expiresInMillis\":").append(Math.max(0, hold.getExpiresAt() - Clock.SYSTEM.millis())).append('}');
+        return json.toString();
+    }
+
+    /**
+     * Sends a list of bookings.
+     *
+     * @param exchange the request and its response
+     * @param bookings the bookings
+     * @throws IOException if the response cannot be sent
+     */
+    private void sendBookings(HttpExchange exchange, List<Booking> bookings) throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (Booking booking : bookings) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            appendBooking(json, booking);
+        }
+        send(exchange, 200, "application/json", json.append(']').toString());
+    }
+
+    /**
+     * Appends a booking and its tickets as a JSON object.
+     *
+     * @param json the JSON being built
+     * @param booking the booking
+     */
+    private static void appendBooking(StringBuilder json, Booking booking) {
+        json.append("{\"bookingId\":");
+        quote(json, booking.getBookingId());
+        json.append(",\"concertId\":");
+        quote(json, booking.getConcertId());
+        json.append(",\"customerId\":");
+        quote(json, booking.getCustomerId());
+        json.append(",\"tickets\":[");
+        TicketStore tickets = booking.getTicketStore();
+        int end = booking.getTicketOffset() + booking.getTicketCount();
+        for (int i = booking.getTicketOffset(); i < end; i++) {
+            if (i > booking.getTicketOffset()) {
+                json.append(',');
+            }
+            json.append("{\"ticketId\":").append(tickets.getTicketId(i))
+                    .append(",\"zone\":\"").append(tickets.getZone(i).name())
+                    .append("\",\"row\":").append(tickets.getRowNumber(i))
+                    .append(",\"seat\":").append(tickets.getSeatNumber(i))
+                    .append(",\"price\":").append(tickets.getPriceCents(i) / 100.0).append('}');
+        }
+        json.append("],\"totalPrice\":").append(booking.getTotalCents() / 100.0).append('}');
+    }
+
+    /**
+     * Authenticates the customer of a request from its basic authorization header.
+     * If it is missing or wrong, a 401 response is sent.
+     *
+     * @param exchange the request and its response
+     * @return the customer, or null if the request is not authenticated
+     * @throws IOException if the response cannot be sent
+     */
+    private Customer authenticate(HttpExchange exchange) throws IOException {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header != null && header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            try {
+                String credentials = new String(Base64.getDecoder().decode(header.substring(6).trim()), StandardCharsets.UTF_8);
+                int colon = credentials.indexOf(':');
+                if (colon > 0) {
+                    return service.authenticate(credentials.substring(0, colon), credentials.substring(colon + 1));
+                }
+            } catch (IllegalArgumentException | IncorrectPasswordException | NotFoundException e) {
+                // fall through to the challenge
+            }
+        }
+        exchange.getResponseHeaders().set("WWW-Authenticate", "Basic realm=\"tickets\"");
+        sendError(exchange, 401, "Invalid customer ID or password.");
+        return null;
+    }
+
+    /**
+     * Reads a URL encoded form from the request body.
+     *
+     * @param exchange the request
+     * @return the form fields, or null if the body is too large
+     * @throws IOException if the body cannot be read
+     */
+    private static Map<String, String> readForm(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        try (InputStream in = exchange.getRequestBody()) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                body.write(buffer, 0, read);
+                if (body.size() > Constants.SERVER_MAX_BODY) {
+                    return null;
+                }
+            }
+        }
+        return parseForm(new String(body.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses URL encoded form fields, as found in a request body or query string.
+     *
+     * @param encoded the encoded fields
+     * @return the form fields
+     */
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : encoded.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                form.put(decode(pair.substring(0, equals)), decode(pair.substring(equals + 1)).trim());
+            }
+        }
+        return form;
+    }
+
+    /**
+     * Returns a form field that may be left out or left empty.
+     *
+     * @param form the form fields
+     * @param name the name of the field
+     * @return the value, or null if the field is missing or empty
+     */
+    private static String optional(Map<String, String> form, String name) {
+        String value = form.get(name);
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Decodes a URL encoded form value.
+     *
+     * @param value the encoded value
+     * @return the decoded value
+     */
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    /**
+     * Appends a string as a quoted JSON string.
+     *
+     * @param json the JSON being built
+     * @param value the string
+     */
+    private static void quote(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Sends an error as a JSON object with a message.
+     *
+     * @param exchange the request and its response
+     * @param status the HTTP status
+     * @param message the error message
+     * @throws IOException if the response cannot be sent
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        quote(json, message);
+        send(exchange, status, "application/json", json.append('}').toString());
+    }
+
+    /**
+     * Sends a response.
+     *
+     * @param exchange the request and its response
+     * @param status the HTTP status
+     * @param contentType the media type of the body
+     * @param body the body
+     * @throws IOException if the response cannot be sent
+     */
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
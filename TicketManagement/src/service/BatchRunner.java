@@ -0,0 +1,212 @@
+package service;
+
+import booking.Booking;
+import booking.ConcertSales;
+import booking.SeatFinder;
+import concert.Concert;
+import exception.InvalidFormatException;
+import exception.NotFoundException;
+import file.CsvReader;
+import ticket.Zone;
+import user.Customer;
+
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * The BatchRunner class runs a file of commands against a {@link TicketService}, so that bookings
+ * can be imported in bulk without going through the interactive menus. Each line holds one
+ * comma separated command; empty lines and lines starting with # are ignored:
+ * <pre>
+ * book,customerId,concertId,zone,row,seat,count
+ * best,customerId,concertId,zone,count,cheapest|central
+ * price,concertId,zone,left,middle,right
+ * customer,name,password
+ * revenue,concertId
+ * sales,concertId
+ * concerts
+ * concerts,artist,venue,from,to
+ * </pre>
+ * The second form of concerts lists the concerts in date order, with empty or missing fields matching anything.
+ * Failed commands are reported with their line number, and a summary is printed at the end.
+ * Output is buffered, so throughput is not bounded by the console.
+ *
+ * @version 1.0
+ */
+public class BatchRunner {
+
+    /**
+     * The service the commands are run against.
+     */
+    private final TicketService service;
+
+    /**
+     * The writer results are printed to.
+     */
+    private final PrintWriter out;
+
+    /**
+     * The number of commands that succeeded.
+     */
+    private int succeeded;
+
+    /**
+     * The number of commands that failed.
+     */
+    private int failed;
+
+    /**
+     * Constructs a BatchRunner printing to standard output.
+     *
+     * @param service the service the commands are run against
+     */
+    public BatchRunner(TicketService service) {
+        this.service = service;
+        this.out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16));
+    }
+
+    /**
+     * Runs all commands of a command file.
+     *
+     * @param commandFilePath the file path of the commands
+     * @throws IOException if the command file cannot be read
+     */
+    public void run(String commandFilePath) throws IOException {
+        try (CsvReader fields = new CsvReader(new FileReader(commandFilePath))) {
+            int lineNumber = 0;
+            while (fields.next()) {
+                lineNumber++;
+                if (fields.size() == 0 || fields.get(0).isEmpty() || fields.get(0).startsWith("#"))    continue;
+                String error;
+                try {
+                    error = execute(fields);
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    error = "Invalid command: " + fields.line();
+                } catch (InvalidFormatException | NotFoundException e) {
+                    error = e.getMessage();
+                }
+                if (error == null) {
+                    succeeded++;
+                } else {
+                    failed++;
+                    out.println("Line " + lineNumber + ": " + error);
+                }
+            }
+        } finally {
+            out.printf("Batch complete: %d commands, %d succeeded, %d failed%n", succeeded + failed, succeeded, failed);
+            out.flush();
+        }
+    }
+
+    /**
+     * Executes one command.
+     *
+     * @param fields the tokenized command line
+     * @return null if the command succeeded, or the reason it failed
+     * @throws InvalidFormatException if the command has an invalid value, such as an unknown zone
+     * @throws NotFoundException if the command refers to a concert that does not exist
+     * @throws IOException if a change cannot be written to the journal
+     */
+    private String execute(CsvReader fields) throws InvalidFormatException, NotFoundException, IOException {
+        String command = fields.get(0);
+        if (command.equals("book") && fields.size() == 7) {
+            if (service.getCustomer(fields.get(1)) == null) {
+                return "Customer does not exist. Booking cancelled.";
+            }
+            BookingResult result = service.book(fields.get(1), fields.get(2), fields.get(3),
+                    fields.getInt(4), fields.getInt(5), fields.getInt(6));
+            return result.isSuccess() ? null : result.getMessage();
+        } else if (command.equals("best") && fields.size() == 6) {
+            if (service.getCustomer(fields.get(1)) == null) {
+                return "Customer does not exist. Booking cancelled.";
+            }
+            SeatFinder.Preference preference;
+            if (fields.get(5).equalsIgnoreCase("cheapest")) {
+                preference = SeatFinder.Preference.CHEAPEST;
+            } else if (fields.get(5).equalsIgnoreCase("central")) {
+                preference = SeatFinder.Preference.CENTRAL;
+            } else {
+                return "Invalid command: " + fields.line();
+            }
+            BookingResult result = service.bookBestAvailable(fields.get(1), fields.get(2), fields.get(3), fields.getInt(4), preference);
+            if (!result.isSuccess()) {
+                return result.getMessage();
+            }
+            Booking booking = result.getBooking();
+            out.printf("Booking %s: %s row %d, seats %d to %d, AUD %.1f%n", booking.getBookingId(), fields.get(3),
+                    booking.getTickets().get(0).getRowNumber(), booking.getTickets().get(0).getSeatNumber(),
+                    booking.getTickets().get(booking.getTotalTickets() - 1).getSeatNumber(), booking.getTotalPrice());
+            return null;
+        } else if (command.equals("price") && fields.size() == 6) {
+            service.updatePrices(fields.get(1), fields.get(2), fields.getDouble(3), fields.getDouble(4), fields.getDouble(5));
+            return null;
+        } else if (command.equals("customer") && fields.size() == 3) {
+            Customer customer = service.addCustomer(fields.get(1), fields.get(2));
+            out.println("Customer " + customer.getCustomerId() + ": " + customer.getCustomerName());
+            return null;
+        } else if (command.equals("revenue") && fields.size() == 2) {
+            Concert concert = service.getConcert(fields.get(1));
+            if (concert == null) {
+                throw new NotFoundException("Concert does not exist.");
+            }
+            out.printf("Total Price for concert %s is AUD %.1f%n", concert.getConcertId(), service.revenue(concert.getConcertId()));
+            return null;
+        } else if (command.equals("sales") && fields.size() == 2) {
+            Concert concert = service.getConcert(fields.get(1));
+            if (concert == null) {
+                throw new NotFoundException("Concert does not exist.");
+            }
+            ConcertSales sales = service.getSales(concert.getConcertId());
+            out.printf("Sales for concert %s: %d seats, AUD %.2f%n", concert.getConcertId(), sales.getSeatsSold(), sales.getRevenue());
+            for (int type = 0; type < 3; type++) {
+                out.printf("%-8s %5d seats  AUD %10.2f  left %5d  middle %5d  right %5d%n", Zone.of(type),
+                        sales.getSeatsSold(type), sales.getRevenueCents(type) / 100.0,
+                        sales.getSeatsSold(type, 0), sales.getSeatsSold(type, 1), sales.getSeatsSold(type, 2));
+            }
+            return null;
+        } else if (command.equals("concerts") && fields.size() == 1) {
+            printConcerts(service.listConcerts());
+            return null;
+        } else if (command.equals("concerts") && fields.size() <= 5) {
+            try {
+                printConcerts(service.findConcerts(optional(fields, 1), optional(fields, 2), optional(fields, 3), optional(fields, 4)));
+            } catch (IllegalArgumentException e) {
+                return e.getMessage() + ".";
+            }
+            return null;
+        }
+        return "Invalid command: " + fields.line();
+    }
+
+    /**
+     * Prints one line per concert.
+     *
+     * @param summaries the concerts with their seats booked and left
+     */
+    private void printConcerts(List<ConcertSummary> summaries) {
+        for (ConcertSummary summary : summaries) {
+            out.printf("%-5s%-15s%-15s%-15s%-30s%-15s%-15s%-15s%n", summary.getConcert().getConcertId(),
+                    summary.getConcert().getDate(), summary.getConcert().getArtistName(), summary.getConcert().getTiming(),
+                    summary.getConcert().getVenueName(), summary.getTotalSeats(), summary.getSeatsBooked(), summary.getSeatsLeft());
+        }
+    }
+
+    /**
+     * Returns a field of a command that may be left empty.
+     *
+     * @param fields the tokenized command line
+     * @param index the index of the field
+     * @return the value, or null if the field is empty or missing
+     */
+    private static String optional(CsvReader fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,80 @@
+package service;
+
+import booking.Booking;
+
+/**
+ * The BookingResult class is the outcome of a booking request made through the {@link TicketService}.
+ * It holds either the new booking or the reason the seats could not be booked.
+ *
+ * @version 1.0
+ */
+public class BookingResult {
+
+    /**
+     * The new booking, or null if the request failed.
+     */
+    private final Booking booking;
+
+    /**
+     * The reason the request failed, or null if it succeeded.
+     */
+    private final String message;
+
+    /**
+     * Constructs a BookingResult.
+     *
+     * @param booking the new booking, or null
+     * @param message the reason of the failure, or null
+     */
+    private BookingResult(Booking booking, String message) {
+        this.booking = booking;
+        this.message = message;
+    }
+
+    /**
+     * Returns the result of a successful booking.
+     *
+     * @param booking the new booking
+     * @return the result
+     */
+    public static BookingResult success(Booking booking) {
+        return new BookingResult(booking, null);
+    }
+
+    /**
+     * Returns the result of a failed booking.
+     *
+     * @param message the reason the seats could not be booked
+     * @return the result
+     */
+    public static BookingResult failure(String message) {
+        return new BookingResult(null, message);
+    }
+
+    /**
+     * Returns whether the seats were booked.
+     *
+     * @return true if the booking succeeded
+     */
+    public boolean isSuccess() {
+        return booking != null;
+    }
+
+    /**
+     * Returns the new booking.
+     *
+     * @return the new booking, or null if the request failed
+     */
+    public Booking getBooking() {
+        return booking;
+    }
+
+    /**
+     * Returns the reason the request failed.
+     *
+     * @return the message, or null if the request succeeded
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,76 @@
+package service;
+
+import concert.Concert;
+
+/**
+ * The ConcertSummary class is a row of the concert listing returned by the {@link TicketService}:
+ * a concert together with the size of its venue and the number of seats booked and left.
+ *
+ * @version 1.0
+ */
+public class ConcertSummary {
+
+    /**
+     * The concert.
+     */
+    private final Concert concert;
+
+    /**
+     * The total number of seats in the concert's venue.
+     */
+    private final int totalSeats;
+
+    /**
+     * The number of seats booked.
+     */
+    private final int seatsBooked;
+
+    /**
+     * Constructs a ConcertSummary.
+     *
+     * @param concert the concert
+     * @param totalSeats the total number of seats in the concert's venue
+     * @param seatsBooked the number of seats booked
+     */
+    public ConcertSummary(Concert concert, int totalSeats, int seatsBooked) {
+        this.concert = concert;
+        this.totalSeats = totalSeats;
+        this.seatsBooked = seatsBooked;
+    }
+
+    /**
+     * Returns the concert.
+     *
+     * @return the concert
+     */
+    public Concert getConcert() {
+        return concert;
+    }
+
+    /**
+     * Returns the total number of seats in the concert's venue.
+     *
+     * @return the total number of seats
+     */
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    /**
+     * Returns the number of seats booked.
+     *
+     * @return the number of seats booked
+     */
+    public int getSeatsBooked() {
+        return seatsBooked;
+    }
+
+    /**
+     * Returns the number of seats left.
+     *
+     * @return the number of seats left
+     */
+    public int getSeatsLeft() {
+        return totalSeats - seatsBooked;
+    }
+}
@@ -0,0 +1,80 @@
+package service;
+
+import booking.SeatHold;
+
+/**
+ * The HoldResult class is the outcome of a request to hold seats made through the {@link TicketService}.
+ * It holds either the new hold or the reason the seats could not be held.
+ *
+ * @version 1.0
+ */
+public class HoldResult {
+
+    /**
+     * The new hold, or null if the request failed.
+     */
+    private final SeatHold hold;
+
+    /**
+     * The reason the request failed, or null if it succeeded.
+     */
+    private final String message;
+
+    /**
+     * Constructs a HoldResult.
+     *
+     * @param hold the new hold, or null
+     * @param message the reason of the failure, or null
+     */
+    private HoldResult(SeatHold hold, String message) {
+        this.hold = hold;
+        this.message = message;
+    }
+
+    /**
+     * Returns the result of a successful hold.
+     *
+     * @param hold the new hold
+     * @return the result
+     */
+    public static HoldResult success(SeatHold hold) {
+        return new HoldResult(hold, null);
+    }
+
+    /**
+     * Returns the result of a failed hold.
+     *
+     * @param message the reason the seats could not be held
+     * @return the result
+     */
+    public static HoldResult failure(String message) {
+        return new HoldResult(null, message);
+    }
+
+    /**
+     * Returns whether the seats were held.
+     *
+     * @return true if the hold succeeded
+     */
+    public boolean isSuccess() {
+        return hold != null;
+    }
+
+    /**
+     * Returns the new hold.
+     *
+     * @return the new hold, or null if the request failed
+     */
+    public SeatHold getHold() {
+        return hold;
+    }
+
+    /**
+     * Returns the reason the request failed.
+     *
+     * @return the message, or null if the request succeeded
+     */
+    public String getMessage() {
+        return message;
+    }
+}
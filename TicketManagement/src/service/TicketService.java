@@ -0,0 +1,833 @@
+package service;
+
+import booking.Admission;
+import booking.AdmissionQueue;
+import booking.Booking;
+import booking.BookingIndex;
+import booking.ConcertSales;
+import booking.HoldManager;
+import booking.ReservationEngine;
+import booking.SalesLedger;
+import booking.SeatBlock;
+import booking.SeatFinder;
+import booking.SeatHold;
+import concert.Concert;
+import concert.ConcertCatalogue;
+import exception.IncorrectPasswordException;
+import exception.InvalidFormatException;
+import exception.InvalidLineException;
+import exception.NotFoundException;
+import exception.SeatUnavailableException;
+import file.BookingJournal;
+import file.CsvReader;
+import file.FileLoader;
+import file.FileSaver;
+import metrics.Metrics;
+import ticket.TicketStore;
+import ticket.Zone;
+import user.CredentialVerifier;
+import user.Customer;
+import user.CustomerDirectory;
+import utils.Clock;
+import utils.Constants;
+import venue.LayoutCache;
+import venue.SeatMap;
+import venue.Venue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The TicketService class is the non-interactive API of the ticket management system.
+ * It owns the customers, concerts, bookings and venues loaded from the data files, and offers
+ * calls to list concerts, book seats, update prices and report revenue that return result objects
+ * instead of reading from the keyboard. Every change is appended to the booking journal.
+ * The interactive menus and the batch runner are both thin adapters over this class.
+ *
+ * @version 1.0
+ */
+public class TicketService {
+
+    /**
+     * The file path for customer data.
+     */
+    private final String customerFilePath;
+
+    /**
+     * The file path for concert data.
+     */
+    private final String concertFilePath;
+
+    /**
+     * The file path for booking data.
+     */
+    private final String bookingFilePath;
+
+    /**
+     * The file paths for venue data.
+     */
+    private final List<String> venueFilePaths;
+
+    /**
+     * The list of bookings in the system.
+     */
+    private final List<Booking> bookings = new ArrayList<>();
+
+    /**
+     * The index of bookings by concert and by customer, with per-concert totals.
+     */
+    private final BookingIndex bookingIndex = new BookingIndex();
+
+    /**
+     * The running totals of seats sold and revenue of each concert, by zone and section.
+     */
+    private final SalesLedger salesLedger = new SalesLedger();
+
+    /**
+     * The list of concerts in the system.
+     */
+    private final List<Concert> concerts = new ArrayList<>();
+
+    /**
+     * The index of the concerts by ID, date, artist and venue, built once the concerts are loaded.
+     */
+    private ConcertCatalogue catalogue = new ConcertCatalogue(new ArrayList<Concert>());
+
+    /**
+     * The customers in the system, keyed by ID and by name.
+     */
+    private final CustomerDirectory customers = new CustomerDirectory();
+
+    /**
+     * The verifier that checks and hashes customer passwords.
+     */
+    private final CredentialVerifier credentials = new CredentialVerifier(
+            Integer.getInteger(Constants.PASSWORD_ITERATIONS_PROPERTY, Constants.PASSWORD_ITERATIONS),
+            Constants.PASSWORD_THREADS, Constants.VERIFIED_CACHE_SIZE);
+
+    /**
+     * The map of venue names to Venue objects.
+     */
+    private final Map<String, Venue> venues = new HashMap<>();
+
+    /**
+     * The map of concert IDs to the occupancy of their venue's seats.
+     */
+    private final Map<String, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    /**
+     * The rendered layouts of recently viewed concerts.
+     */
+    private final LayoutCache layoutCache = new LayoutCache(Constants.LAYOUT_CACHE_SIZE);
+
+    /**
+     * The engine that claims seats and records new bookings.
+     */
+    private final ReservationEngine reservationEngine = new ReservationEngine(bookings, bookingIndex, seatMaps);
+
+    /**
+     * The time-limited holds customers have placed on seats before booking them.
+     */
+    private final HoldManager holds = new HoldManager(reservationEngine, Clock.SYSTEM,
+            Constants.HOLD_MILLIS, Constants.HOLD_TICK_MILLIS, Constants.HOLD_WHEEL_TICKS);
+
+    /**
+     * The admission queue of each concert, created when the concert is first booked through {@link #admit(Concert, long)}.
+     */
+    private final Map<String, AdmissionQueue> admissionQueues = new ConcurrentHashMap<>();
+
+    /**
+     * The journal of changes made since the data files were last written.
+     */
+    private final BookingJournal journal;
+
+    /**
+     * The lock between changes and compaction. Changes that are appended to the journal hold the read lock,
+     * so they can run concurrently, while compaction holds the write lock so that no change is made between
+     * writing the data files and clearing the journal.
+     */
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs a TicketService over the given data files. Nothing is read until {@link #load(String, String)}.
+     *
+     * @param customerFilePath the file path for customer data
+     * @param concertFilePath the file path for concert data
+     * @param bookingFilePath the file path for booking data
+     * @param venueFilePaths the file paths for venue data
+     */
+    public TicketService(String customerFilePath, String concertFilePath, String bookingFilePath, List<String> venueFilePaths) {
+        this.customerFilePath = customerFilePath;
+        this.concertFilePath = concertFilePath;
+        this.bookingFilePath = bookingFilePath;
+        this.venueFilePaths = venueFilePaths;
+        this.journal = new BookingJournal(bookingFilePath);
+    }
+
+    /**
+     * Loads all data files and replays the journal, printing a message for every skipped line.
+     * If a customer ID is given, the customer is authenticated once the customers are known,
+     * and nothing else is loaded if that fails.
+     *
+     * @param customerId the ID of the customer to authenticate, or an empty string for none
+     * @param password the password of the customer
+     * @return true if the data files are valid and the customer was authenticated
+     */
+    public boolean load(String customerId, String password) {
+        long start = Metrics.LOAD.start();
+        Object event = Metrics.LOAD.beginEvent();
+        try {
+            List<Customer> loadedCustomers = new ArrayList<>();
+            try (FileLoader loader = new FileLoader(customerFilePath, loadedCustomers, concertFilePath, concerts,
+                    bookingFilePath, bookings, venueFilePaths, venues, bookingIndex, reservationEngine)) {
+                loader.start();
+                if (!loader.loadCustomers())    return false;
+                customers.addAll(loadedCustomers);
+                replayCustomers();
+                if (!customerId.equals("")) {
+                    try {
+                        authenticate(customerId, password);
+                    } catch (IncorrectPasswordException | NotFoundException e) {
+                        System.out.println(e.getMessage());
+                        return false; // Exit the program after displaying the error message
+                    }
+                }
+                loader.loadConcerts();
+                catalogue = new ConcertCatalogue(concerts);
+                replayPriceChanges();
+                loader.loadBookings();
+                replayBookings(loader);
+
+                if (!loader.loadVenues()) {
+                    return false;
+                }
+            }
+            buildSeatMaps();
+            migratePasswords();
+            return true;
+        } finally {
+            Metrics.LOAD.stop(start, event);
+        }
+    }
+
+    /**
+     * Authenticates a customer.
+     *
+     * @param customerId the ID of the customer
+     * @param password the password of the customer
+     * @return the authenticated customer
+     * @throws IncorrectPasswordException if the password is incorrect
+     * @throws NotFoundException if the customer is not found
+     */
+    public Customer authenticate(String customerId, String password) throws IncorrectPasswordException, NotFoundException {
+        Customer customer = getCustomer(customerId);
+        if (customer == null) {
+            throw new NotFoundException("Customer does not exist. Terminating Program");
+        }
+        if (!credentials.verify(customer, password)) {
+            throw new IncorrectPasswordException("Incorrect Password. Terminating Program");
+        }
+        return customer;
+    }
+
+    /**
+     * Returns a customer by ID.
+     *
+     * @param customerId the ID of the customer
+     * @return the customer, or null if there is none with this ID
+     */
+    public Customer getCustomer(String customerId) {
+        return customers.get(customerId);
+    }
+
+    /**
+     * Returns the customers with a name, ignoring case.
+     *
+     * @param customerName the name of the customer
+     * @return the customers with this name
+     */
+    public List<Customer> findCustomers(String customerName) {
+        return customers.findByName(customerName);
+    }
+
+    /**
+     * Registers a new customer with the next free customer ID.
+     *
+     * @param customerName the name of the customer
+     * @param password the password of the customer
+     * @return the new customer
+     * @throws IOException if the customer cannot be written to the journal
+     */
+    public Customer addCustomer(String customerName, String password) throws IOException {
+        String hash = credentials.hash(password);
+        Customer customer;
+        changeLock.readLock().lock();
+        try {
+            customer = customers.register(customerName, hash);
+            journal.append(customer);
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        compactIfNeeded();
+        return customer;
+    }
+
+    /**
+     * Returns the concerts in the order of the concert file.
+     *
+     * @return a read-only list of the concerts
+     */
+    public List<Concert> getConcerts() {
+        return Collections.unmodifiableList(concerts);
+    }
+
+    /**
+     * Returns a concert by ID.
+     *
+     * @param concertId the ID of the concert
+     * @return the concert, or null if there is none with this ID
+     */
+    public Concert getConcert(String concertId) {
+        return catalogue.get(concertId);
+    }
+
+    /**
+     * Lists every concert with the size of its venue and the number of seats booked.
+     *
+     * @return one summary per concert, in the order of the concert file
+     */
+    public List<ConcertSummary> listConcerts() {
+        return summarize(concerts);
+    }
+
+    /**
+     * Lists the concerts that match every given criterion, with the size of their venue and the number of seats booked.
+     *
+     * @param artistName the name of the artist, ignoring case, or null for any artist
+     * @param venueName the name of the venue, ignoring case, or null for any venue
+     * @param fromDate the first date as yyyy-MM-dd, or null for no lower bound
+     * @param toDate the last date as yyyy-MM-dd, or null for no upper bound
+     * @return one summary per matching concert, in date order
+     * @throws IllegalArgumentException if a date is not a valid yyyy-MM-dd date
+     */
+    public List<ConcertSummary> findConcerts(String artistName, String venueName, String fromDate, String toDate) {
+        return summarize(catalogue.find(artistName, venueName, fromDate, toDate));
+    }
+
+    /**
+     * Returns the number of seats of a concert that have not been sold.
+     *
+     * @param concert the concert
+     * @return the seats left, or {@link Integer#MAX_VALUE} if the concert has no venue
+     */
+    public int getSeatsLeft(Concert concert) {
+        Venue venue = getVenue(concert);
+        return venue == null ? Integer.MAX_VALUE : venue.getTotalSeats() - salesLedger.getSeatsSold(concert.getConcertId());
+    }
+
+    /**
+     * Asks to enter the booking flow of a concert through its admission queue, waiting in line if too many
+     * sessions are already booking it. Sessions are turned away once the queue is full or the concert is sold out.
+     *
+     * @param concert the concert to book
+     * @param timeoutMillis the longest time to wait in line
+     * @return the admission, to be closed once the booking is done if the session was admitted
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public Admission admit(final Concert concert, long timeoutMillis) throws InterruptedException {
+        AdmissionQueue queue = admissionQueues.get(concert.getConcertId());
+        if (queue == null) {
+            queue = admissionQueues.computeIfAbsent(concert.getConcertId(), id -> new AdmissionQueue(
+                    Constants.ADMISSION_MAX_ACTIVE, Constants.ADMISSION_MAX_WAITING, () -> getSeatsLeft(concert)));
+        }
+        return queue.enter(timeoutMillis);
+    }
+
+    /**
+     * Returns the admission queue of a concert.
+     *
+     * @param concert the concert
+     * @return the admission queue, or null if no session has asked to book the concert yet
+     */
+    public AdmissionQueue getAdmissionQueue(Concert concert) {
+        return admissionQueues.get(concert.getConcertId());
+    }
+
+    /**
+     * Returns the venue of a concert, falling back to the default venue.
+     *
+     * @param concert the concert to find the venue for
+     * @return the venue where the concert is held, or null if neither it nor the default venue was loaded
+     */
+    public Venue getVenue(Concert concert) {
+        Venue venue = venues.get(concert.getVenueName().toLowerCase());
+        if (venue == null) {
+            venue = venues.get(Constants.DEFAULT);
+        }
+        return venue;
+    }
+
+    /**
+     * Returns the occupancy of a concert's seats.
+     *
+     * @param concertId the ID of the concert
+     * @return the seat map, or null if the concert has no venue
+     */
+    public SeatMap getSeatMap(String concertId) {
+        return seatMaps.get(concertId);
+    }
+
+    /**
+     * Renders the seating layout of a concert, marking booked seats with [X].
+     * Layouts are cached, and only rows changed by bookings since the last view are rendered again.
+     *
+     * @param concert the concert to render
+     * @return the rendered layout
+     */
+    public String renderLayout(Concert concert) {
+        long start = Metrics.LAYOUT.start();
+        Object event = Metrics.LAYOUT.beginEvent();
+        try {
+            return layoutCache.render(concert.getConcertId(), getVenue(concert), seatMaps.get(concert.getConcertId()));
+        } finally {
+            Metrics.LAYOUT.stop(start, event);
+        }
+    }
+
+    /**
+     * Books a run of adjacent seats in one row.
+     *
+     * @param customerId the ID of the customer making the booking
+     * @param concertId the ID of the concert
+     * @param zone the zone of the seats (VIP, SEATING, STANDING)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param count the number of seats to book
+     * @return the new booking, or the reason the seats could not be booked
+     * @throws IOException if the booking was made but cannot be written to the journal
+     */
+    public BookingResult book(String customerId, String concertId, String zone, int rowNumber, int seatNumber, int count) throws IOException {
+        long start = Metrics.BOOK.start();
+        Object event = Metrics.BOOK.beginEvent();
+        try {
+            Concert concert = getConcert(concertId);
+            if (concert == null) {
+                return BookingResult.failure("Concert does not exist. Booking cancelled.");
+            }
+            Zone type = Zone.of(zone);
+            if (type == null) {
+                return BookingResult.failure("Invalid Zone Type. Booking cancelled.");
+            }
+            Customer customer = getCustomer(customerId);
+            String customerName = customer == null ? customerId : customer.getCustomerName();
+            Booking booking;
+            changeLock.readLock().lock();
+            try {
+                booking = reservationEngine.reserve(concert, getVenue(concert), customerId, customerName, type.ordinal(), rowNumber, seatNumber, count);
+                salesLedger.record(booking, getVenue(concert));
+                journal.append(booking);
+            } catch (SeatUnavailableException e) {
+                return BookingResult.failure(e.getMessage());
+            } finally {
+                changeLock.readLock().unlock();
+            }
+            compactIfNeeded();
+            return BookingResult.success(booking);
+        } finally {
+            Metrics.BOOK.stop(start, event);
+        }
+    }
+
+    /**
+     * Finds the best available run of adjacent seats in one zone, without booking it.
+     *
+     * @param concertId the ID of the concert
+     * @param zone the zone of the seats (VIP, SEATING, STANDING)
+     * @param count the number of adjacent seats
+     * @param preference what makes one block of seats better than another
+     * @return the best block, or null if the concert, venue or zone does not exist or no row has enough adjacent free seats
+     */
+    public SeatBlock findBestAvailable(String concertId, String zone, int count, SeatFinder.Preference preference) {
+        Concert concert = getConcert(concertId);
+        Zone type = Zone.of(zone);
+        if (concert == null || type == null || getVenue(concert) == null) {
+            return null;
+        }
+        return SeatFinder.find(concert, getVenue(concert), seatMaps.get(concertId), type.ordinal(), count, preference);
+    }
+
+    /**
+     * Books the best available run of adjacent seats in one zone.
+     * If another customer takes the seats between finding and booking them, the search is repeated.
+     *
+     * @param customerId the ID of the customer making the booking
+     * @param concertId the ID of the concert
+     * @param zone the zone of the seats (VIP, SEATING, STANDING)
+     * @param count the number of seats to book
+     * @param preference what makes one block of seats better than another
+     * @return the new booking, or the reason the seats could not be booked
+     * @throws IOException if the booking was made but cannot be written to the journal
+     */
+    public BookingResult bookBestAvailable(String customerId, String concertId, String zone, int count, SeatFinder.Preference preference) throws IOException {
+        Concert concert = getConcert(concertId);
+        if (concert == null) {
+            return BookingResult.failure("Concert does not exist. Booking cancelled.");
+        }
+        if (Zone.of(zone) == null) {
+            return BookingResult.failure("Invalid Zone Type. Booking cancelled.");
+        }
+        BookingResult result = null;
+        for (int attempt = 0; attempt < Constants.BEST_AVAILABLE_ATTEMPTS; attempt++) {
+            SeatBlock block = findBestAvailable(concertId, zone, count, preference);
+            if (block == null) {
+                return BookingResult.failure("No " + count + " adjacent seats available in this zone. Booking cancelled.");
+            }
+            result = book(customerId, concertId, zone, block.getRowNumber(), block.getSeatNumber(), count);
+            if (result.isSuccess()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Places a time-limited hold on a run of adjacent seats in one row, so that the customer can confirm them
+     * into a booking before anyone else takes them. The hold is released automatically when it expires.
+     *
+     * @param customerId the ID of the customer holding the seats
+     * @param concertId the ID of the concert
+     * @param zone the zone of the seats (VIP, SEATING, STANDING)
+     * @param rowNumber the row number, starting from 1
+     * @param seatNumber the number of the first seat, starting from 1
+     * @param count the number of seats to hold
+     * @return the new hold, or the reason the seats could not be held
+     */
+    public HoldResult holdSeats(String customerId, String concertId, String zone, int rowNumber, int seatNumber, int count) {
+        Concert concert = getConcert(concertId);
+        if (concert == null) {
+            return HoldResult.failure("Concert does not exist. Booking cancelled.");
+        }
+        Zone type = Zone.of(zone);
+        if (type == null) {
+            return HoldResult.failure("Invalid Zone Type. Booking cancelled.");
+        }
+        holds.start();
+        try {
+            return HoldResult.success(holds.hold(concert, customerId, type.ordinal(), rowNumber, seatNumber, count));
+        } catch (SeatUnavailableException e) {
+            return HoldResult.failure(e.getMessage());
+        }
+    }
+
+    /**
+     * Confirms a customer's hold into a booking of the held seats, at the concert's current prices.
+     *
+     * @param customerId the ID of the customer who placed the hold
+     * @param holdId the ID of the hold
+     * @return the new booking, or the reason the hold could not be confirmed
+     * @throws IOException if the booking was made but cannot be written to the journal
+     */
+    public BookingResult confirmHold(String customerId, long holdId) throws IOException {
+        SeatHold hold = holds.get(holdId);
+        Concert concert = hold == null ? null : getConcert(hold.getConcertId());
+        if (concert == null) {
+            return BookingResult.failure("Hold does not exist or has expired.");
+        }
+        Customer customer = getCustomer(customerId);
+        String customerName = customer == null ? customerId : customer.getCustomerName();
+        Booking booking;
+        changeLock.readLock().lock();
+        try {
+            booking = holds.confirm(holdId, customerId, concert, getVenue(concert), customerName);
+            salesLedger.record(booking, getVenue(concert));
+            journal.append(booking);
+        } catch (NotFoundException e) {
+            return BookingResult.failure(e.getMessage());
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        compactIfNeeded();
+        return BookingResult.success(booking);
+    }
+
+    /**
+     * Releases a customer's hold, freeing the held seats.
+     *
+     * @param customerId the ID of the customer who placed the hold
+     * @param holdId the ID of the hold
+     * @throws NotFoundException if the customer has no such hold, or it has expired
+     */
+    public void releaseHold(String customerId, long holdId) throws NotFoundException {
+        SeatHold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new NotFoundException("Hold does not exist or has expired.");
+        }
+        holds.release(holdId, customerId, hold.getConcertId());
+    }
+
+    /**
+     * Returns a customer's active hold.
+     *
+     * @param customerId the ID of the customer who placed the hold
+     * @param holdId the ID of the hold
+     * @return the hold, or null if the customer has no such hold or it has expired
+     */
+    public SeatHold getHold(String customerId, long holdId) {
+        SeatHold hold = holds.get(holdId);
+        return hold == null || !hold.getCustomerId().equals(customerId) ? null : hold;
+    }
+
+    /**
+     * Returns the bookings of a concert.
+     *
+     * @param concertId the ID of the concert
+     * @return the bookings in the order they were made
+     */
+    public List<Booking> getBookings(String concertId) {
+        return bookingIndex.getBookings(concertId);
+    }
+
+    /**
+     * Returns the bookings of a customer for a concert.
+     *
+     * @param customerId the ID of the customer
+     * @param concertId the ID of the concert
+     * @return the bookings in the order they were made
+     */
+    public List<Booking> getBookings(String customerId, String concertId) {
+        return bookingIndex.getBookings(customerId, concertId);
+    }
+
+    /**
+     * Returns the total payment received for a concert.
+     *
+     * @param concertId the ID of the concert
+     * @return the sum of the prices of all tickets booked
+     */
+    public double revenue(String concertId) {
+        return salesLedger.getRevenueCents(concertId) / 100.0;
+    }
+
+    /**
+     * Returns the seats sold and revenue of a concert, by zone and by section.
+     *
+     * @param concertId the ID of the concert
+     * @return the sales of the concert
+     */
+    public ConcertSales getSales(String concertId) {
+        return salesLedger.getSales(concertId);
+    }
+
+    /**
+     * Updates the prices of one zone of a concert.
+     *
+     * @param concertId the ID of the concert
+     * @param zone the zone whose prices change (VIP, SEATING, STANDING)
+     * @param left the price for the left section
+     * @param middle the price for the middle section
+     * @param right the price for the right section
+     * @throws InvalidFormatException if the zone is not VIP, SEATING or STANDING
+     * @throws NotFoundException if the concert does not exist
+     * @throws IOException if the change cannot be written to the journal
+     */
+    public void updatePrices(String concertId, String zone, Double left, Double middle, Double right)
+            throws InvalidFormatException, NotFoundException, IOException {
+        Zone parsed = Zone.of(zone);
+        if (parsed == null) {
+            throw new InvalidFormatException("Invalid Zone Type. Prices not updated.");
+        }
+        Concert concert = getConcert(concertId);
+        if (concert == null) {
+            throw new NotFoundException("Concert does not exist.");
+        }
+        changeLock.readLock().lock();
+        try {
+            concert.setSeatPrice(parsed, left, middle, right);
+            journal.append(concert.getConcertId(), parsed.name(), left, middle, right);
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Saves the session. Changes are already in the journal, so the data files are only
+     * rewritten once the journal is large enough to be compacted, or when the booking file
+     * does not exist yet.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void save() throws IOException {
+        if (!new File(bookingFilePath).exists()) {
+            compact();
+        }
+        compactIfNeeded();
+        journal.close();
+    }
+
+    /**
+     * Summarizes concerts with the size of their venue and the number of seats booked.
+     *
+     * @param selected the concerts
+     * @return one summary per concert, in the same order
+     */
+    private List<ConcertSummary> summarize(List<Concert> selected) {
+        List<ConcertSummary> summaries = new ArrayList<>(selected.size());
+        for (Concert concert : selected) {
+            Venue venue = getVenue(concert);
+            int totalSeats = venue == null ? 0 : venue.getTotalSeats();
+            summaries.add(new ConcertSummary(concert, totalSeats, salesLedger.getSeatsSold(concert.getConcertId())));
+        }
+        return summaries;
+    }
+
+    /**
+     * Builds the seat occupancy and the sales totals of every concert from the loaded bookings.
+     * This runs once venues are known, as bookings are read before venue files.
+     */
+    private void buildSeatMaps() {
+        salesLedger.clear();
+        for (Concert concert : concerts) {
+            Venue venue = getVenue(concert);
+            List<Booking> concertBookings = bookingIndex.getBookings(concert.getConcertId());
+            for (Booking booking : concertBookings) {
+                salesLedger.record(booking, venue);
+            }
+            if (venue == null) {
+                continue;
+            }
+            SeatMap seatMap = new SeatMap(venue);
+            for (Booking booking : concertBookings) {
+                seatMap.bookAll(booking.getTicketStore(), booking.getTicketOffset(), booking.getTicketCount());
+            }
+            seatMaps.put(concert.getConcertId(), seatMap);
+        }
+    }
+
+    /**
+     * Hashes any plaintext passwords left from older customer files and rewrites the customer file,
+     * so the plaintext passwords do not stay on disk. Customers added in the journal are hashed
+     * in memory and written out at the next compaction.
+     */
+    private void migratePasswords() {
+        List<Customer> all = customers.getCustomers();
+        if (credentials.migrate(all) > 0) {
+            try {
+                new FileSaver(customerFilePath, all, concertFilePath, concerts, bookingFilePath, bookings).saveCustomers();
+            } catch (IOException e) {
+                System.out.println("Error writing file: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Adds the customers recorded in the journal that are not in the customer file yet.
+     */
+    private void replayCustomers() {
+        CsvReader fields = new CsvReader();
+        for (String line : readJournal(BookingJournal.CUSTOMER)) {
+            fields.reset(line);
+            if (fields.size() == 0)    continue;
+            if (getCustomer(fields.get(0)) != null)    continue;
+            try {
+                customers.add(FileLoader.parseCustomer(fields));
+            } catch (InvalidLineException | InvalidFormatException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Applies the price changes recorded in the journal to the loaded concerts.
+     */
+    private void replayPriceChanges() {
+        for (String line : readJournal(BookingJournal.PRICE)) {
+            String[] parts = line.split(",");
+            if (parts.length != 5)    continue;
+            Concert concert = catalogue.get(parts[0]);
+            Zone zone = Zone.of(parts[1]);
+            if (concert == null || zone == null)    continue;
+            try {
+                concert.setSeatPrice(zone, Double.parseDouble(parts[2]), Double.parseDouble(parts[3]), Double.parseDouble(parts[4]));
+            } catch (NumberFormatException e) {
+                // A damaged record leaves the prices from the concert file in place
+            }
+        }
+    }
+
+    /**
+     * Adds the bookings recorded in the journal that are not in the booking file yet.
+     *
+     * @param loader the loader parsing the booking lines
+     */
+    private void replayBookings(FileLoader loader) {
+        CsvReader fields = new CsvReader();
+        TicketStore staged = new TicketStore();
+        for (String line : readJournal(BookingJournal.BOOKING)) {
+            fields.reset(line);
+            if (fields.size() > 3 && bookingIndex.contains(fields.get(1), fields.get(3), fields.get(0)))    continue;
+            try {
+                reservationEngine.register(loader.parseBooking(fields, staged));
+            } catch (InvalidLineException | InvalidFormatException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the records of a type left in the journal by previous sessions.
+     *
+     * @param type the record type
+     * @return the record lines, or an empty list if the journal cannot be read
+     */
+    private List<String> readJournal(char type) {
+        try {
+            return journal.read(type);
+        } catch (IOException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Compacts the journal into the data files once it has reached the compaction threshold.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void compactIfNeeded() throws IOException {
+        if (journal.size() >= Constants.JOURNAL_COMPACTION_THRESHOLD) {
+            changeLock.writeLock().lock();
+            try {
+                if (journal.size() >= Constants.JOURNAL_COMPACTION_THRESHOLD) {
+                    compact();
+                }
+            } finally {
+                changeLock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes all data back to the data files and clears the journal, while no change can be made.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void compact() throws IOException {
+        changeLock.writeLock().lock();
+        try {
+            FileSaver fileSaver = new FileSaver(customerFilePath, customers.getCustomers(), concertFilePath, concerts, bookingFilePath, bookings);
+            fileSaver.save();
+            journal.clear();
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+    }
+}
@@ -24,9 +24,9 @@ public class Ticket {
     private int seatNumber;
 
     /**
-     * The type of zone where the ticket is located (e.g., VIP, SEATING, STANDING).
+     * The zone where the ticket is located.
      */
-    private String zoneType;
+    private Zone zone;
 
     /**
      * The price of the ticket.
@@ -39,14 +39,14 @@ public class Ticket {
      * @param ticketId   the unique ID of the ticket
      * @param rowNumber  the row number where the ticket is located
      * @param seatNumber the seat number where the ticket is located
-     * @param zoneType   the type of zone where the ticket is located
+     * @param zone       the zone where the ticket is located
      * @param price      the price of the ticket
      */
-    public Ticket(int ticketId, int rowNumber, int seatNumber, String zoneType, double price) {
+    public Ticket(int ticketId, int rowNumber, int seatNumber, Zone zone, double price) {
         this.ticketId = ticketId;
         this.rowNumber = rowNumber;
         this.seatNumber = seatNumber;
-        this.zoneType = zoneType;
+        this.zone = zone;
         this.price = price;
     }
 
@@ -80,10 +80,19 @@ public class Ticket {
     /**
      * Returns the type of zone where the ticket is located.
      *
-     * @return the type of zone where the ticket is located
+     * @return the name of the zone where the ticket is located (VIP, SEATING, STANDING)
      */
     public String getZoneType() {
-        return zoneType;
+        return zone.name();
+    }
+
+    /**
+     * Returns the zone where the ticket is located.
+     *
+     * @return the zone where the ticket is located
+     */
+    public Zone getZone() {
+        return zone;
     }
 
     /**
@@ -0,0 +1,94 @@
+package ticket;
+
+/**
+ * The TicketKey class packs the zone, row and seat of a ticket into one non-negative int.
+ * The zone takes 2 bits, the row 13 bits and the seat 15 bits, so a key identifies a seat of a
+ * concert and can be used directly as a hash key or a bitset index without creating objects.
+ *
+ * @version 1.0
+ */
+public final class TicketKey {
+
+    /**
+     * The number of bits holding the seat number.
+     */
+    private static final int SEAT_BITS = 15;
+
+    /**
+     * The number of bits holding the row number.
+     */
+    private static final int ROW_BITS = 13;
+
+    /**
+     * The largest row number a key can hold.
+     */
+    public static final int MAX_ROW = (1 << ROW_BITS) - 1;
+
+    /**
+     * The largest seat number a key can hold.
+     */
+    public static final int MAX_SEAT = (1 << SEAT_BITS) - 1;
+
+    /**
+     * Prevents instantiation, as the class only has static methods.
+     */
+    private TicketKey() {
+    }
+
+    /**
+     * Checks whether a row and seat number fit in a key.
+     *
+     * @param rowNumber the row number
+     * @param seatNumber the seat number
+     * @return true if both are between 0 and their maximum
+     */
+    public static boolean fits(int rowNumber, int seatNumber) {
+        return rowNumber >= 0 && rowNumber <= MAX_ROW && seatNumber >= 0 && seatNumber <= MAX_SEAT;
+    }
+
+    /**
+     * Packs a zone, row and seat into a key.
+     *
+     * @param zone the zone
+     * @param rowNumber the row number, from 0 to {@link #MAX_ROW}
+     * @param seatNumber the seat number, from 0 to {@link #MAX_SEAT}
+     * @return the key
+     * @throws IllegalArgumentException if the row or seat does not fit
+     */
+    public static int pack(Zone zone, int rowNumber, int seatNumber) {
+        if (!fits(rowNumber, seatNumber)) {
+            throw new IllegalArgumentException("Row " + rowNumber + " seat " + seatNumber + " does not fit in a ticket key");
+        }
+        return (zone.ordinal() << (ROW_BITS + SEAT_BITS)) | (rowNumber << SEAT_BITS) | seatNumber;
+    }
+
+    /**
+     * Returns the zone of a key.
+     *
+     * @param key the key
+     * @return the zone
+     */
+    public static Zone zone(int key) {
+        return Zone.of(key >>> (ROW_BITS + SEAT_BITS));
+    }
+
+    /**
+     * Returns the row number of a key.
+     *
+     * @param key the key
+     * @return the row number
+     */
+    public static int row(int key) {
+        return (key >>> SEAT_BITS) & MAX_ROW;
+    }
+
+    /**
+     * Returns the seat number of a key.
+     *
+     * @param key the key
+     * @return the seat number
+     */
+    public static int seat(int key) {
+        return key & MAX_SEAT;
+    }
+}
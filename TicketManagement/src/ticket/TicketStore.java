@@ -0,0 +1,258 @@
+package ticket;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The TicketStore class keeps tickets in parallel primitive arrays instead of one object per ticket.
+ * Each concert has its own store, and a booking refers to a contiguous range of it.
+ * The zone, row and seat are packed into one {@link TicketKey} and the price is kept in cents,
+ * so a ticket costs 12 bytes of heap.
+ * {@link Ticket} objects are only created as short-lived views when a ticket is read through {@link #get(int)}.
+ *
+ * @version 1.0
+ */
+public class TicketStore {
+
+    /**
+     * The number of tickets in the store.
+     */
+    private volatile int size;
+
+    /**
+     * The IDs of the tickets.
+     */
+    private volatile int[] ticketIds;
+
+    /**
+     * The packed zone, row and seat of the tickets.
+     */
+    private volatile int[] keys;
+
+    /**
+     * The prices of the tickets in cents.
+     */
+    private volatile int[] prices;
+
+    /**
+     * Constructs an empty TicketStore.
+     */
+    public TicketStore() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty TicketStore with room for the given number of tickets.
+     *
+     * @param capacity the initial capacity
+     */
+    public TicketStore(int capacity) {
+        capacity = Math.max(capacity, 1);
+        ticketIds = new int[capacity];
+        keys = new int[capacity];
+        prices = new int[capacity];
+    }
+
+    /**
+     * Converts a price to cents.
+     *
+     * @param price the price
+     * @return the price in cents
+     */
+    public static int toCents(double price) {
+        return (int) Math.round(price * 100);
+    }
+
+    /**
+     * Adds a ticket to the store.
+     *
+     * @param ticketId   the ID of the ticket
+     * @param rowNumber  the row number of the ticket
+     * @param seatNumber the seat number of the ticket
+     * @param zone       the zone of the ticket
+     * @param priceCents the price of the ticket in cents
+     * @return the index of the ticket in the store
+     * @throws IllegalArgumentException if the row or seat does not fit in a {@link TicketKey}
+     */
+    public int add(int ticketId, int rowNumber, int seatNumber, Zone zone, int priceCents) {
+        return add(ticketId, TicketKey.pack(zone, rowNumber, seatNumber), priceCents);
+    }
+
+    /**
+     * Adds a ticket to the store by its packed key.
+     *
+     * @param ticketId   the ID of the ticket
+     * @param key        the packed zone, row and seat of the ticket
+     * @param priceCents the price of the ticket in cents
+     * @return the index of the ticket in the store
+     */
+    public synchronized int add(int ticketId, int key, int priceCents) {
+        int index = size;
+        ensureCapacity(index + 1);
+        ticketIds[index] = ticketId;
+        keys[index] = key;
+        prices[index] = priceCents;
+        size = index + 1;
+        return index;
+    }
+
+    /**
+     * Adds a copy of a ticket to the store.
+     *
+     * @param ticket the ticket to add
+     * @return the index of the ticket in the store
+     */
+    public int add(Ticket ticket) {
+        return add(ticket.getTicketId(), ticket.getRowNumber(), ticket.getSeatNumber(),
+                ticket.getZone(), toCents(ticket.getPrice()));
+    }
+
+    /**
+     * Appends all tickets of another store as one contiguous range.
+     *
+     * @param tickets the store holding the tickets to append
+     * @return the index of the first appended ticket
+     */
+    public synchronized int append(TicketStore tickets) {
+        int offset = size;
+        int count = tickets.size;
+        ensureCapacity(offset + count);
+        System.arraycopy(tickets.ticketIds, 0, ticketIds, offset, count);
+        System.arraycopy(tickets.keys, 0, keys, offset, count);
+        System.arraycopy(tickets.prices, 0, prices, offset, count);
+        size = offset + count;
+        return offset;
+    }
+
+    /**
+     * Removes all tickets, so the store can be reused as a staging area.
+     */
+    public synchronized void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of tickets in the store.
+     *
+     * @return the number of tickets
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the ID of a ticket.
+     *
+     * @param index the index of the ticket
+     * @return the ID of the ticket
+     */
+    public int getTicketId(int index) {
+        return ticketIds[index];
+    }
+
+    /**
+     * Returns the row number of a ticket.
+     *
+     * @param index the index of the ticket
+     * @return the row number of the ticket
+     */
+    public int getRowNumber(int index) {
+        return TicketKey.row(keys[index]);
+    }
+
+    /**
+     * Returns the seat number of a ticket.
+     *
+     * @param index the index of the ticket
+     * @return the seat number of the ticket
+     */
+    public int getSeatNumber(int index) {
+        return TicketKey.seat(keys[index]);
+    }
+
+    /**
+     * Returns the zone of a ticket.
+     *
+     * @param index the index of the ticket
+     * @return the zone of the ticket
+     */
+    public Zone getZone(int index) {
+        return TicketKey.zone(keys[index]);
+    }
+
+    /**
+     * Returns the packed zone, row and seat of a ticket.
+     *
+     * @param index the index of the ticket
+     * @return the ticket key
+     */
+    public int getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the price of a ticket in cents.
+     *
+     * @param index the index of the ticket
+     * @return the price of the ticket in cents
+     */
+    public int getPriceCents(int index) {
+        return prices[index];
+    }
+
+    /**
+     * Returns a view of a ticket.
+     *
+     * @param index the index of the ticket
+     * @return a ticket holding the stored values
+     */
+    public Ticket get(int index) {
+        int key = keys[index];
+        return new Ticket(ticketIds[index], TicketKey.row(key), TicketKey.seat(key), TicketKey.zone(key), prices[index] / 100.0);
+    }
+
+    /**
+     * Returns a read-only list view of a range of tickets.
+     *
+     * @param offset the index of the first ticket
+     * @param count the number of tickets
+     * @return the tickets of the range
+     */
+    public List<Ticket> view(final int offset, final int count) {
+        return new AbstractList<Ticket>() {
+            @Override
+            public Ticket get(int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+                }
+                return TicketStore.this.get(offset + index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Grows the columns so that they can hold the given number of tickets.
+     *
+     * @param capacity the number of tickets to hold
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ticketIds.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ticketIds.length + (ticketIds.length >> 1));
+        int[] newTicketIds = new int[grown];
+        int[] newKeys = new int[grown];
+        int[] newPrices = new int[grown];
+        System.arraycopy(ticketIds, 0, newTicketIds, 0, size);
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        System.arraycopy(prices, 0, newPrices, 0, size);
+        ticketIds = newTicketIds;
+        keys = newKeys;
+        prices = newPrices;
+    }
+}
@@ -0,0 +1,107 @@
+package ticket;
+
+import utils.Constants;
+
+/**
+ * The Zone enum lists the zones of a venue. The ordinal of each zone is the zone type index
+ * used by the seat maps and price tables (0 for VIP, 1 for seating, 2 for standing),
+ * and its name is the text written to the data files.
+ *
+ * @version 1.0
+ */
+public enum Zone {
+
+    /**
+     * The VIP zone, with rows labelled V.
+     */
+    VIP(Constants.V),
+
+    /**
+     * The seating zone, with rows labelled S.
+     */
+    SEATING(Constants.S),
+
+    /**
+     * The standing zone, with rows labelled T.
+     */
+    STANDING(Constants.T);
+
+    /**
+     * The zones indexed by zone type, shared to avoid copying {@link #values()}.
+     */
+    private static final Zone[] ZONES = values();
+
+    /**
+     * The character labelling the rows of the zone.
+     */
+    private final char label;
+
+    /**
+     * Constructs a Zone.
+     *
+     * @param label the character labelling the rows of the zone
+     */
+    Zone(char label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the character labelling the rows of the zone.
+     *
+     * @return the row label
+     */
+    public char getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the zone with a zone type index.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @return the zone
+     */
+    public static Zone of(int type) {
+        return ZONES[type];
+    }
+
+    /**
+     * Returns the zone with a name, as written in the data files.
+     *
+     * @param name the name of the zone (VIP, SEATING, STANDING)
+     * @return the zone, or null if the name is not a zone
+     */
+    public static Zone of(String name) {
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case Constants.VIP:
+                return VIP;
+            case Constants.SEATING:
+                return SEATING;
+            case Constants.STANDING:
+                return STANDING;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the zone whose rows are labelled with a character.
+     *
+     * @param label the row label (V, S, T)
+     * @return the zone, or null if the character is not a row label
+     */
+    public static Zone ofLabel(char label) {
+        switch (label) {
+            case Constants.V:
+                return VIP;
+            case Constants.S:
+                return SEATING;
+            case Constants.T:
+                return STANDING;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The CredentialVerifier class checks customer passwords and migrates plaintext passwords to hashes.
+ * Hashes run on the calling thread, but only a fixed number at once, so a burst of logins uses at most
+ * that many cores and never starves the threads serving bookings. Callers beyond that wait on a semaphore,
+ * which parks a virtual thread without holding its carrier. Once a password has been verified, a fast
+ * SHA-256 digest of it is kept in a bounded cache, so repeated logins of the same customer skip the
+ * slow hash. The cache never holds the password itself.
+ *
+ * @version 1.0
+ */
+public class CredentialVerifier {
+
+    /**
+     * The hasher for new and stored passwords.
+     */
+    private final PasswordHasher hasher;
+
+    /**
+     * The largest number of passwords hashed at once.
+     */
+    private final int threads;
+
+    /**
+     * The permits to run a slow hash, one per hash that may run at once.
+     */
+    private final Semaphore hashing;
+
+    /**
+     * The digests of recently verified passwords keyed by their stored hash, in access order.
+     */
+    private final Map<String, byte[]> verified;
+
+    /**
+     * Constructs a CredentialVerifier.
+     *
+     * @param iterations the number of PBKDF2 iterations used for new hashes
+     * @param threads the largest number of passwords hashed at once
+     * @param cacheSize the largest number of verified passwords kept in the cache
+     */
+    public CredentialVerifier(int iterations, int threads, final int cacheSize) {
+        this.hasher = new PasswordHasher(iterations);
+        this.threads = threads;
+        this.hashing = new Semaphore(threads);
+        this.verified = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Checks a customer's password, hashing it unless it was verified recently.
+     *
+     * @param customer the customer logging in
+     * @param password the password entered
+     * @return true if the password matches
+     */
+    public boolean verify(Customer customer, String password) {
+        String stored = customer.getPassword();
+        if (!PasswordHasher.isHashed(stored)) {
+            return hasher.verify(password, stored);
+        }
+        byte[] digest = digest(stored, password);
+        byte[] cached;
+        synchronized (verified) {
+            cached = verified.get(stored);
+        }
+        if (cached != null && MessageDigest.isEqual(cached, digest)) {
+            return true;
+        }
+        boolean matches;
+        hashing.acquireUninterruptibly();
+        try {
+            matches = hasher.verify(password, stored);
+        } finally {
+            hashing.release();
+        }
+        if (matches) {
+            synchronized (verified) {
+                verified.put(stored, digest);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Hashes a new password.
+     *
+     * @param password the plaintext password
+     * @return the stored form of the hashed password
+     */
+    public String hash(String password) {
+        hashing.acquireUninterruptibly();
+        try {
+            return hasher.hash(password);
+        } finally {
+            hashing.release();
+        }
+    }
+
+    /**
+     * Replaces the plaintext passwords of customers with hashes, hashing them in parallel on a pool that lasts for the migration.
+     *
+     * @param customers the customers to check
+     * @return the number of passwords that were migrated
+     */
+    public int migrate(List<Customer> customers) {
+        List<Customer> plaintext = new ArrayList<>();
+        for (Customer customer : customers) {
+            if (!PasswordHasher.isHashed(customer.getPassword())) {
+                plaintext.add(customer);
+            }
+        }
+        if (plaintext.isEmpty()) {
+            return 0;
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(threads, plaintext.size()));
+        try {
+            List<Future<String>> hashes = new ArrayList<>();
+            for (Customer customer : plaintext) {
+                final String password = customer.getPassword();
+                hashes.add(workers.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return hasher.hash(password);
+                    }
+                }));
+            }
+            for (int i = 0; i < plaintext.size(); i++) {
+                plaintext.get(i).setPassword(await(hashes.get(i)));
+            }
+        } finally {
+            workers.shutdown();
+        }
+        return plaintext.size();
+    }
+
+    /**
+     * Waits for a task run on a migration thread.
+     *
+     * @param future the pending result of the task
+     * @param <T> the type of the result
+     * @return the result of the task
+     */
+    private static <T> T await(Future<T> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Computes the fast digest of a password that is kept in the cache.
+     *
+     * @param stored the stored hash, which acts as a salt
+     * @param password the password
+     * @return the SHA-256 digest of both
+     */
+    private static byte[] digest(String stored, String password) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(stored.getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+            return sha.digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -62,4 +62,13 @@ public class Customer {
     public String getPassword() {
         return password;
     }
+
+    /**
+     * Replaces the stored password of the customer, such as when a plaintext password is hashed.
+     *
+     * @param password the new stored form of the password
+     */
+    public void setPassword(String password) {
+        this.password = password;
+    }
 }
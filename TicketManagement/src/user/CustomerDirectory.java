@@ -0,0 +1,155 @@
+package user;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The CustomerDirectory class holds the customers of the ticket management system in hash maps
+ * keyed by ID and by name, so finding a customer at login takes constant time however many
+ * customers there are. New customer IDs come from an atomic sequence that starts after the
+ * largest numeric ID added, so concurrent sign-ups never receive the same ID.
+ * The customers are also kept in the order they were added, which is the order they are saved in.
+ *
+ * @version 1.0
+ */
+public class CustomerDirectory {
+
+    /**
+     * The customers keyed by ID.
+     */
+    private final Map<String, Customer> byId = new ConcurrentHashMap<>();
+
+    /**
+     * The customers keyed by lower case name. Several customers may share a name.
+     */
+    private final Map<String, List<Customer>> byName = new ConcurrentHashMap<>();
+
+    /**
+     * The customers in the order they were added, including any with a duplicate ID.
+     */
+    private final List<Customer> customers = new ArrayList<>();
+
+    /**
+     * The largest numeric customer ID handed out or added so far.
+     */
+    private final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * Adds a customer. If a customer with the same ID already exists, the new one is kept
+     * for saving but lookups keep returning the first.
+     *
+     * @param customer the customer to add
+     * @return true if no customer with this ID existed before
+     */
+    public boolean add(Customer customer) {
+        synchronized (customers) {
+            customers.add(customer);
+        }
+        if (byId.putIfAbsent(customer.getCustomerId(), customer) != null) {
+            return false;
+        }
+        index(customer);
+        try {
+            final long id = Long.parseLong(customer.getCustomerId());
+            long last;
+            do {
+                last = lastId.get();
+            } while (id > last && !lastId.compareAndSet(last, id));
+        } catch (NumberFormatException e) {
+            // Customers with non-numeric IDs do not affect the sequence
+        }
+        return true;
+    }
+
+    /**
+     * Adds all customers of a list, in order.
+     *
+     * @param customers the customers to add
+     */
+    public void addAll(List<Customer> customers) {
+        for (Customer customer : customers) {
+            add(customer);
+        }
+    }
+
+    /**
+     * Registers a new customer with the next free customer ID.
+     *
+     * @param customerName the name of the customer
+     * @param password the password of the customer
+     * @return the new customer
+     */
+    public Customer register(String customerName, String password) {
+        while (true) {
+            Customer customer = new Customer(String.valueOf(lastId.incrementAndGet()), customerName, password);
+            if (byId.putIfAbsent(customer.getCustomerId(), customer) == null) {
+                synchronized (customers) {
+                    customers.add(customer);
+                }
+                index(customer);
+                return customer;
+            }
+        }
+    }
+
+    /**
+     * Returns a customer by ID.
+     *
+     * @param customerId the ID of the customer
+     * @return the customer, or null if there is none with this ID
+     */
+    public Customer get(String customerId) {
+        return byId.get(customerId);
+    }
+
+    /**
+     * Returns the customers with a name, ignoring case.
+     *
+     * @param customerName the name of the customer
+     * @return the customers with this name, in the order they were added
+     */
+    public List<Customer> findByName(String customerName) {
+        List<Customer> matches = byName.get(customerName.toLowerCase());
+        return matches == null ? Collections.<Customer>emptyList() : new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns all customers in the order they were added.
+     *
+     * @return a copy of the customer list
+     */
+    public List<Customer> getCustomers() {
+        synchronized (customers) {
+            return new ArrayList<>(customers);
+        }
+    }
+
+    /**
+     * Returns the number of customers with distinct IDs.
+     *
+     * @return the number of customers
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Adds a customer to the name index.
+     *
+     * @param customer the customer to index
+     */
+    private void index(Customer customer) {
+        String key = customer.getCustomerName().toLowerCase();
+        List<Customer> matches = byName.get(key);
+        if (matches == null) {
+            byName.putIfAbsent(key, new CopyOnWriteArrayList<Customer>());
+            matches = byName.get(key);
+        }
+        matches.add(customer);
+    }
+}
@@ -0,0 +1,129 @@
+package user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * The PasswordHasher class hashes passwords with PBKDF2 and a random salt per password.
+ * A hashed password is stored as {@code pbkdf2$<iterations>$<salt>$<hash>} with the salt and hash
+ * in Base64, so the iteration count can be raised later without breaking existing hashes.
+ * Stored values without the prefix are treated as plaintext passwords from older customer files.
+ *
+ * @version 1.0
+ */
+public class PasswordHasher {
+
+    /**
+     * The prefix of a hashed password.
+     */
+    public static final String PREFIX = "pbkdf2$";
+
+    /**
+     * The JDK algorithm used to derive the hash.
+     */
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    /**
+     * The length of a salt in bytes.
+     */
+    private static final int SALT_BYTES = 16;
+
+    /**
+     * The length of a hash in bits.
+     */
+    private static final int HASH_BITS = 256;
+
+    /**
+     * The source of salts.
+     */
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * The number of PBKDF2 iterations used for new hashes.
+     */
+    private final int iterations;
+
+    /**
+     * Constructs a PasswordHasher.
+     *
+     * @param iterations the number of PBKDF2 iterations used for new hashes
+     */
+    public PasswordHasher(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iteration count must be positive: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Hashes a password with a new random salt.
+     *
+     * @param password the plaintext password
+     * @return the stored form of the hashed password
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + iterations + "$" + encoder.encodeToString(salt) + "$"
+                + encoder.encodeToString(derive(password, salt, iterations));
+    }
+
+    /**
+     * Checks a password against its stored form.
+     *
+     * @param password the password to check
+     * @param stored the stored form, either a hash or a plaintext password
+     * @return true if the password matches
+     */
+    public boolean verify(String password, String stored) {
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] expected = decoder.decode(parts[3]);
+            return MessageDigest.isEqual(expected, derive(password, decoder.decode(parts[2]), Integer.parseInt(parts[1])));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether a stored password is hashed.
+     *
+     * @param stored the stored form of a password
+     * @return true if it is a hash, false if it is a plaintext password
+     */
+    public static boolean isHashed(String stored) {
+        return stored.startsWith(PREFIX);
+    }
+
+    /**
+     * Derives the hash of a password.
+     *
+     * @param password the password
+     * @param salt the salt
+     * @param iterations the number of iterations
+     * @return the derived hash
+     */
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
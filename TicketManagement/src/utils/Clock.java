@@ -0,0 +1,23 @@
+package utils;
+
+/**
+ * The Clock interface is the source of time for anything that expires, such as seat holds.
+ * Production code uses {@link #SYSTEM}; a clock that is advanced by hand lets expiry be
+ * checked without waiting.
+ *
+ * @version 1.0
+ */
+public interface Clock {
+
+    /**
+     * A monotonic clock based on {@link System#nanoTime()}, unaffected by changes to the wall clock.
+     */
+    Clock SYSTEM = () -> System.nanoTime() / 1000000L;
+
+    /**
+     * Returns the current time in milliseconds. Only differences between two readings are meaningful.
+     *
+     * @return the current time in milliseconds
+     */
+    long millis();
+}
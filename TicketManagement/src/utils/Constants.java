@@ -35,6 +35,16 @@ public class Constants {
      */
     public static final String ADMIN_ARGUMENT = "--admin";
 
+    /**
+     * The command-line argument for batch mode.
+     */
+    public static final String BATCH_ARGUMENT = "--batch";
+
+    /**
+     * The command-line argument for server mode.
+     */
+    public static final String SERVER_ARGUMENT = "--server";
+
     /**
      * The directory path for assets.
      */
@@ -105,6 +115,11 @@ public class Constants {
      */
     public static final int ADMIN_EXIT = 5;
 
+    /**
+     * The command for viewing the timings of operations in admin mode.
+     */
+    public static final int ADMIN_VIEW_METRICS = 6;
+
     /**
      * The command for displaying ticket prices in concert mode.
      */
@@ -130,6 +145,11 @@ public class Constants {
      */
     public static final int CONCERT_EXIT = 5;
 
+    /**
+     * The command for booking the best available seats in concert mode.
+     */
+    public static final int CONCERT_BOOK_BEST_AVAILABLE = 6;
+
     /**
      * The message displayed for invalid input.
      */
@@ -149,4 +169,124 @@ public class Constants {
      * The message displaying the number of right seats.
      */
     public static final String RIGHT_SEATS = "Right Seats:  ";
+
+    /**
+     * The extension appended to the booking file path to name the journal file.
+     */
+    public static final String JOURNAL_EXTENSION = ".journal";
+
+    /**
+     * The number of journal records written between two syncs to disk.
+     */
+    public static final int JOURNAL_SYNC_BATCH = 16;
+
+    /**
+     * The number of journal records after which the data is compacted back into the CSV files.
+     */
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
+    /**
+     * The extension of booking files stored as text.
+     */
+    public static final String CSV_EXTENSION = ".csv";
+
+    /**
+     * The extension of booking files stored as a binary snapshot.
+     */
+    public static final String BINARY_EXTENSION = ".bin";
+
+    /**
+     * The number of characters of the booking file parsed as one chunk when loading.
+     */
+    public static final int LOAD_CHUNK_SIZE = 1 << 18;
+
+    /**
+     * The number of characters buffered when writing a data file.
+     */
+    public static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The extension appended to a data file path to name the temporary file it is rewritten through.
+     */
+    public static final String TEMP_EXTENSION = ".tmp";
+
+    /**
+     * The number of pending connections the server queues before refusing new ones.
+     */
+    public static final int SERVER_BACKLOG = 1024;
+
+    /**
+     * The number of seconds the server waits for running requests to finish when it stops.
+     */
+    public static final int SERVER_STOP_DELAY = 2;
+
+    /**
+     * The largest request body the server accepts, in bytes.
+     */
+    public static final int SERVER_MAX_BODY = 8192;
+
+    /**
+     * The number of concerts whose rendered layouts are cached.
+     */
+    public static final int LAYOUT_CACHE_SIZE = 32;
+
+    /**
+     * The number of times booking the best available seats is retried when another booking takes them first.
+     */
+    public static final int BEST_AVAILABLE_ATTEMPTS = 3;
+
+    /**
+     * The number of milliseconds seats stay on hold before they are released.
+     */
+    public static final long HOLD_MILLIS = 10 * 60 * 1000L;
+
+    /**
+     * The length in milliseconds of a tick of the wheel that expires holds.
+     */
+    public static final long HOLD_TICK_MILLIS = 100;
+
+    /**
+     * The number of ticks of the wheel that expires holds, covering one hold length per turn.
+     */
+    public static final int HOLD_WHEEL_TICKS = 8192;
+
+    /**
+     * The largest number of sessions in the booking flow of one concert at a time.
+     */
+    public static final int ADMISSION_MAX_ACTIVE = 32;
+
+    /**
+     * The largest number of sessions waiting to enter the booking flow of one concert.
+     */
+    public static final int ADMISSION_MAX_WAITING = 512;
+
+    /**
+     * The number of milliseconds a session waits to enter the booking flow before it is turned away.
+     */
+    public static final long ADMISSION_WAIT_MILLIS = 3000;
+
+    /**
+     * The default number of PBKDF2 iterations used to hash new passwords.
+     */
+    public static final int PASSWORD_ITERATIONS = 20000;
+
+    /**
+     * The system property that overrides the number of PBKDF2 iterations.
+     */
+    public static final String PASSWORD_ITERATIONS_PROPERTY = "ticket.password.iterations";
+
+    /**
+     * The system property that, when true, prints the timings of operations when the program exits.
+     */
+    public static final String METRICS_REPORT_PROPERTY = "ticket.metrics.report";
+
+    /**
+     * The largest number of passwords hashed at once.
+     */
+    public static final int PASSWORD_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * The number of recently verified passwords kept so repeated logins skip the slow hash.
+     */
+    public static final int VERIFIED_CACHE_SIZE = 4096;
 }
@@ -0,0 +1,268 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The TimingWheel class tracks a large number of timeouts with constant cost per timeout.
+ * Time is cut into ticks, and the wheel is a ring of buckets with one bucket per tick; a timeout
+ * is linked into the bucket of the tick it expires in, wrapping around the ring when it is further
+ * away than one turn. Scheduling and cancelling are O(1), and advancing the wheel only visits the
+ * buckets of the ticks that have passed, so no timer thread or task exists per timeout.
+ * A timeout fires at the first tick at or after its deadline, so at most one tick late and never early.
+ *
+ * @param <T> the type of the items that time out
+ * @version 1.0
+ */
+public class TimingWheel<T> {
+
+    /**
+     * The source of time.
+     */
+    private final Clock clock;
+
+    /**
+     * The length of a tick in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The time of tick 0.
+     */
+    private final long startMillis;
+
+    /**
+     * The first timeout of each bucket, or null if the bucket is empty.
+     */
+    private final Timeout<T>[] buckets;
+
+    /**
+     * The mask turning a tick into the index of its bucket.
+     */
+    private final int mask;
+
+    /**
+     * The next tick to be processed.
+     */
+    private long tick;
+
+    /**
+     * The number of pending timeouts.
+     */
+    private int size;
+
+    /**
+     * Constructs a TimingWheel.
+     *
+     * @param clock the source of time
+     * @param tickMillis the length of a tick in milliseconds
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     */
+    public TimingWheel(Clock clock, long tickMillis, int ticksPerWheel) {
+        if (tickMillis <= 0 || ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("Invalid wheel: " + ticksPerWheel + " ticks of " + tickMillis + " ms");
+        }
+        int length = Integer.highestOneBit(ticksPerWheel);
+        if (length < ticksPerWheel) {
+            length <<= 1;
+        }
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.startMillis = clock.millis();
+        @SuppressWarnings("unchecked")
+        Timeout<T>[] buckets = (Timeout<T>[]) new Timeout<?>[length];
+        this.buckets = buckets;
+        this.mask = length - 1;
+        this.tick = 1;
+    }
+
+    /**
+     * Schedules an item to time out after a delay.
+     *
+     * @param item the item
+     * @param delayMillis the delay in milliseconds
+     * @return the timeout, which can be cancelled
+     */
+    public synchronized Timeout<T> schedule(T item, long delayMillis) {
+        long deadline = clock.millis() + Math.max(0, delayMillis);
+        // Round up, so that the timeout never fires before its deadline
+        long deadlineTick = Math.max(tick, (deadline - startMillis + tickMillis - 1) / tickMillis);
+        Timeout<T> timeout = new Timeout<>(item, deadline, deadlineTick);
+        link(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a pending timeout.
+     *
+     * @param timeout the timeout
+     * @return true if it was pending, false if it had already fired or been cancelled
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket < 0) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the current time and removes the timeouts that have expired.
+     *
+     * @return the items that timed out, in no particular order
+     */
+    public synchronized List<T> advance() {
+        List<T> expired = new ArrayList<>();
+        long now = (clock.millis() - startMillis) / tickMillis;
+        if (now < tick) {
+            return expired;
+        }
+        if (now - tick >= buckets.length) {
+            // More than a full turn has passed, so every bucket is visited once
+            for (int i = 0; i < buckets.length; i++) {
+                expire(i, now, expired);
+            }
+        } else {
+            for (long t = tick; t <= now; t++) {
+                expire((int) (t & mask), now, expired);
+            }
+        }
+        tick = now + 1;
+        return expired;
+    }
+
+    /**
+     * Returns the number of pending timeouts.
+     *
+     * @return the number of timeouts
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Removes the timeouts of a bucket whose tick has been reached.
+     *
+     * @param index the index of the bucket
+     * @param now the current tick
+     * @param expired the list the items that timed out are added to
+     */
+    private void expire(int index, long now, List<T> expired) {
+        Timeout<T> timeout = buckets[index];
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            if (timeout.deadlineTick <= now) {
+                unlink(timeout);
+                size--;
+                expired.add(timeout.item);
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Links a timeout into the bucket of its tick.
+     *
+     * @param timeout the timeout
+     */
+    private void link(Timeout<T> timeout) {
+        int index = (int) (timeout.deadlineTick & mask);
+        Timeout<T> head = buckets[index];
+        timeout.bucket = index;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        buckets[index] = timeout;
+    }
+
+    /**
+     * Unlinks a timeout from its bucket.
+     *
+     * @param timeout the timeout
+     */
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    /**
+     * A pending timeout of an item, linked into one bucket of the wheel.
+     *
+     * @param <T> the type of the item
+     */
+    public static final class Timeout<T> {
+
+        /**
+         * The item that times out.
+         */
+        private final T item;
+
+        /**
+         * The time the item times out, in milliseconds of the wheel's clock.
+         */
+        private final long deadline;
+
+        /**
+         * The tick the item times out at.
+         */
+        private final long deadlineTick;
+
+        /**
+         * The index of the bucket holding the timeout, or -1 once it has fired or been cancelled.
+         */
+        private int bucket = -1;
+
+        /**
+         * The previous timeout of the bucket.
+         */
+        private Timeout<T> previous;
+
+        /**
+         * The next timeout of the bucket.
+         */
+        private Timeout<T> next;
+
+        /**
+         * Constructs a Timeout.
+         *
+         * @param item the item that times out
+         * @param deadline the time the item times out
+         * @param deadlineTick the tick the item times out at
+         */
+        private Timeout(T item, long deadline, long deadlineTick) {
+            this.item = item;
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Returns the item that times out.
+         *
+         * @return the item
+         */
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the time the item times out.
+         *
+         * @return the deadline in milliseconds of the wheel's clock
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package venue;
+
+/**
+ * The FreeRunIndex class indexes the runs of free seats in one row of a venue.
+ * It is a segment tree over the seat positions where every node stores the length of the
+ * free run at its start, at its end, and the longest free run inside it. Marking a seat and
+ * finding the first or last run of a given length within a range both take logarithmic time,
+ * so searching for adjacent free seats stays fast even when the row is nearly sold out.
+ *
+ * @version 1.0
+ */
+public class FreeRunIndex {
+
+    /**
+     * The number of seats in the row.
+     */
+    private final int size;
+
+    /**
+     * The length of the free run at the start of each node.
+     */
+    private final int[] prefix;
+
+    /**
+     * The length of the free run at the end of each node.
+     */
+    private final int[] suffix;
+
+    /**
+     * The length of the longest free run inside each node.
+     */
+    private final int[] longest;
+
+    /**
+     * The length of the free run carried over from the nodes already visited by a search.
+     */
+    private int carry;
+
+    /**
+     * Constructs a FreeRunIndex for a row with every seat free.
+     *
+     * @param size the number of seats in the row
+     */
+    public FreeRunIndex(int size) {
+        this.size = size;
+        int nodes = 4 * Math.max(size, 1);
+        prefix = new int[nodes];
+        suffix = new int[nodes];
+        longest = new int[nodes];
+        if (size > 0) {
+            build(1, 0, size);
+        }
+    }
+
+    /**
+     * Marks a seat as booked or free.
+     *
+     * @param seat the seat index
+     * @param booked true if the seat is booked
+     */
+    public synchronized void set(int seat, boolean booked) {
+        if (seat >= 0 && seat < size) {
+            update(1, 0, size, seat, booked);
+        }
+    }
+
+    /**
+     * Returns the length of the longest run of free seats in the row.
+     *
+     * @return the length of the longest free run
+     */
+    public synchronized int longestRun() {
+        return size > 0 ? longest[1] : 0;
+    }
+
+    /**
+     * Finds the first run of free seats of the given length that starts at or after
+     * {@code from} and ends before {@code to}.
+     *
+     * @param count the number of adjacent seats
+     * @param from the first seat index the run may start at
+     * @param to the seat index the run must end before
+     * @return the index of the first seat of the run, or -1 if there is none
+     */
+    public synchronized int first(int count, int from, int to) {
+        from = Math.max(from, 0);
+        to = Math.min(to, size);
+        if (count <= 0 || to - from < count) {
+            return -1;
+        }
+        carry = 0;
+        return first(1, 0, size, count, from, to);
+    }
+
+    /**
+     * Finds the last run of free seats of the given length that starts at or after
+     * {@code from} and ends before {@code to}.
+     *
+     * @param count the number of adjacent seats
+     * @param from the first seat index the run may start at
+     * @param to the seat index the run must end before
+     * @return the index of the first seat of the run, or -1 if there is none
+     */
+    public synchronized int last(int count, int from, int to) {
+        from = Math.max(from, 0);
+        to = Math.min(to, size);
+        if (count <= 0 || to - from < count) {
+            return -1;
+        }
+        carry = 0;
+        return last(1, 0, size, count, from, to);
+    }
+
+    /**
+     * Builds a subtree with every seat free.
+     *
+     * @param node the index of the node
+     * @param l the first seat covered by the node
+     * @param r the seat after the last one covered by the node
+     */
+    private void build(int node, int l, int r) {
+        prefix[node] = suffix[node] = longest[node] = r - l;
+        if (r - l > 1) {
+            int m = (l + r) >>> 1;
+            build(2 * node, l, m);
+            build(2 * node + 1, m, r);
+        }
+    }
+
+    /**
+     * Updates a seat and the nodes above it.
+     *
+     * @param node the index of the node
+     * @param l the first seat covered by the node
+     * @param r the seat after the last one covered by the node
+     * @param seat the seat index
+     * @param booked true if the seat is booked
+     */
+    private void update(int node, int l, int r, int seat, boolean booked) {
+        if (r - l == 1) {
+            int free = booked ? 0 : 1;
+            prefix[node] = suffix[node] = longest[node] = free;
+            return;
+        }
+        int m = (l + r) >>> 1;
+        if (seat < m) {
+            update(2 * node, l, m, seat, booked);
+        } else {
+            update(2 * node + 1, m, r, seat, booked);
+        }
+        int left = 2 * node;
+        int right = 2 * node + 1;
+        prefix[node] = prefix[left] == m - l ? m - l + prefix[right] : prefix[left];
+        suffix[node] = suffix[right] == r - m ? r - m + suffix[left] : suffix[right];
+        longest[node] = Math.max(Math.max(longest[left], longest[right]), suffix[left] + prefix[right]);
+    }
+
+    /**
+     * Searches the nodes covering the range from left to right, carrying the free run
+     * at the end of the nodes visited so far.
+     *
+     * @param node the index of the node
+     * @param l the first seat covered by the node
+     * @param r the seat after the last one covered by the node
+     * @param count the number of adjacent seats
+     * @param from the first seat index the run may start at
+     * @param to the seat index the run must end before
+     * @return the index of the first seat of the run, or -1 if it is not in this node
+     */
+    private int first(int node, int l, int r, int count, int from, int to) {
+        if (r <= from || l >= to) {
+            return -1;
+        }
+        int m = (l + r) >>> 1;
+        if (from <= l && r <= to) {
+            if (carry + prefix[node] >= count) {
+                return l - carry;
+            }
+            if (longest[node] < count) {
+                carry = prefix[node] == r - l ? carry + r - l : suffix[node];
+                return -1;
+            }
+        }
+        int found = first(2 * node, l, m, count, from, to);
+        return found >= 0 ? found : first(2 * node + 1, m, r, count, from, to);
+    }
+
+    /**
+     * Searches the nodes covering the range from right to left, carrying the free run
+     * at the start of the nodes visited so far.
+     *
+     * @param node the index of the node
+     * @param l the first seat covered by the node
+     * @param r the seat after the last one covered by the node
+     * @param count the number of adjacent seats
+     * @param from the first seat index the run may start at
+     * @param to the seat index the run must end before
+     * @return the index of the first seat of the run, or -1 if it is not in this node
+     */
+    private int last(int node, int l, int r, int count, int from, int to) {
+        if (r <= from || l >= to) {
+            return -1;
+        }
+        int m = (l + r) >>> 1;
+        if (from <= l && r <= to) {
+            if (carry + suffix[node] >= count) {
+                return r + carry - count;
+            }
+            if (longest[node] < count) {
+                carry = suffix[node] == r - l ? carry + r - l : prefix[node];
+                return -1;
+            }
+        }
+        int found = last(2 * node + 1, m, r, count, from, to);
+        return found >= 0 ? found : last(2 * node, l, m, count, from, to);
+    }
+}
@@ -0,0 +1,147 @@
+package venue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The LayoutCache class keeps the rendered seating layouts of recently viewed concerts.
+ * Each row is stored as a rendered string together with the {@link SeatMap} version it was
+ * rendered at, and only rows whose version has changed since are rendered again.
+ * When no row has changed, the previously assembled layout is returned as is.
+ * A cached layout is replaced when the concert's venue renderer or seat map is no longer the one it was built for.
+ * The cache holds a bounded number of concerts and evicts the least recently viewed one.
+ *
+ * @version 1.0
+ */
+public class LayoutCache {
+
+    /**
+     * The cached layouts by concert ID, in access order.
+     */
+    private final Map<String, Layout> layouts;
+
+    /**
+     * Constructs a LayoutCache.
+     *
+     * @param capacity the largest number of concerts whose layouts are kept
+     */
+    public LayoutCache(final int capacity) {
+        this.layouts = new LinkedHashMap<String, Layout>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Layout> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the rendered layout of a concert, re-rendering only the rows that changed.
+     *
+     * @param concertId the ID of the concert
+     * @param venue the venue where the concert is held
+     * @param seats the occupancy of the concert's seats
+     * @return the rendered layout
+     */
+    public String render(String concertId, Venue venue, SeatMap seats) {
+        LayoutRenderer renderer = venue.getRenderer();
+        Layout layout;
+        synchronized (layouts) {
+            layout = layouts.get(concertId);
+            if (layout == null || layout.renderer != renderer || layout.seats != seats) {
+                layout = new Layout(renderer, seats);
+                layouts.put(concertId, layout);
+            }
+        }
+        return layout.render();
+    }
+
+    /**
+     * The cached rows of one concert's layout.
+     */
+    private static class Layout {
+
+        /**
+         * The renderer of the venue's layout.
+         */
+        private final LayoutRenderer renderer;
+
+        /**
+         * The occupancy of the concert's seats.
+         */
+        private final SeatMap seats;
+
+        /**
+         * The rendered rows, indexed by zone type and row.
+         */
+        private final String[][] rows;
+
+        /**
+         * The version each row was rendered at, indexed by zone type and row.
+         */
+        private final int[][] versions;
+
+        /**
+         * The last assembled layout, or null if it has not been assembled yet.
+         */
+        private String text;
+
+        /**
+         * Constructs an empty Layout.
+         *
+         * @param renderer the renderer of the venue's layout
+         * @param seats the occupancy of the concert's seats
+         */
+        private Layout(LayoutRenderer renderer, SeatMap seats) {
+            this.renderer = renderer;
+            this.seats = seats;
+            this.rows = new String[3][];
+            this.versions = new int[3][];
+            for (int type = 0; type < 3; type++) {
+                rows[type] = new String[renderer.getRows(type)];
+                versions[type] = new int[renderer.getRows(type)];
+            }
+        }
+
+        /**
+         * Brings the changed rows up to date and assembles the layout.
+         *
+         * @return the rendered layout
+         */
+        private synchronized String render() {
+            boolean changed = text == null;
+            StringBuilder row = new StringBuilder();
+            for (int type = 0; type < 3; type++) {
+                for (int i = 0; i < rows[type].length; i++) {
+                    // Read the version first, so a change made while rendering is caught next time
+                    int version = seats.getVersion(type, i);
+                    if (rows[type][i] == null || versions[type][i] != version) {
+                        row.setLength(0);
+                        renderer.appendRow(seats, type, i, row);
+                        rows[type][i] = row.toString();
+                        versions[type][i] = version;
+                        changed = true;
+                    }
+                }
+            }
+            if (changed) {
+                int length = 2;
+                for (String[] zone : rows) {
+                    for (String line : zone) {
+                        length += line.length();
+                    }
+                }
+                StringBuilder out = new StringBuilder(length);
+                for (int type = 0; type < 3; type++) {
+                    if (type > 0) {
+                        out.append('\n');
+                    }
+                    for (String line : rows[type]) {
+                        out.append(line);
+                    }
+                }
+                text = out.toString();
+            }
+            return text;
+        }
+    }
+}
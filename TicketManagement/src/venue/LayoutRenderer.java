@@ -0,0 +1,155 @@
+package venue;
+
+import ticket.Zone;
+
+import java.io.IOException;
+
+/**
+ * The LayoutRenderer class renders the seating layout of a venue, marking booked seats with [X].
+ * The row labels and the free-seat labels are built once per venue, so rendering a row only copies
+ * runs of pre-rendered characters, and the whole layout is written to its destination in one call.
+ * The output is identical to printing the layout seat by seat.
+ *
+ * @version 1.0
+ */
+public class LayoutRenderer {
+
+    /**
+     * The label of a booked seat.
+     */
+    private static final char[] BOOKED = {'[', 'X', ']'};
+
+    /**
+     * The text before the first seat of each row, such as "V1 ", indexed by zone type and row.
+     */
+    private final String[][] prefixes;
+
+    /**
+     * The text after the last seat of each row, such as " V1" and a line break, indexed by zone type and row.
+     */
+    private final String[][] suffixes;
+
+    /**
+     * The labels of all free seats of a row, "[1][2]...[n]".
+     */
+    private final char[] labels;
+
+    /**
+     * The offset of each seat's label in {@link #labels}, with one extra entry for the end.
+     */
+    private final int[] starts;
+
+    /**
+     * The first seat of each section and the end of the row.
+     */
+    private final int[] sections;
+
+    /**
+     * The length of a fully free layout, used to size the output.
+     */
+    private final int capacity;
+
+    /**
+     * Constructs a LayoutRenderer for the current dimensions of a venue.
+     *
+     * @param venue the venue to render
+     */
+    public LayoutRenderer(Venue venue) {
+        int left = venue.getLeft();
+        int middle = venue.getMiddle();
+        int width = left + middle + venue.getRight();
+        sections = new int[]{0, left, left + middle, width};
+
+        StringBuilder seatLabels = new StringBuilder();
+        starts = new int[width + 1];
+        for (int j = 0; j < width; j++) {
+            starts[j] = seatLabels.length();
+            seatLabels.append('[').append(j + 1).append(']');
+        }
+        starts[width] = seatLabels.length();
+        labels = seatLabels.toString().toCharArray();
+
+        int[] rows = {venue.getVip(), venue.getSeating(), venue.getStanding()};
+        prefixes = new String[3][];
+        suffixes = new String[3][];
+        int size = 2;
+        for (int type = 0; type < 3; type++) {
+            prefixes[type] = new String[rows[type]];
+            suffixes[type] = new String[rows[type]];
+            for (int i = 0; i < rows[type]; i++) {
+                prefixes[type][i] = Zone.of(type).getLabel() + String.valueOf(i + 1) + " ";
+                suffixes[type][i] = " " + Zone.of(type).getLabel() + (i + 1) + System.lineSeparator();
+                size += prefixes[type][i].length() + labels.length + 2 + suffixes[type][i].length();
+            }
+        }
+        capacity = size;
+    }
+
+    /**
+     * Renders the layout.
+     *
+     * @param seats the occupancy of the venue's seats
+     * @return the rendered layout
+     */
+    public String render(SeatMap seats) {
+        StringBuilder out = new StringBuilder(capacity);
+        for (int type = 0; type < 3; type++) {
+            if (type > 0) {
+                out.append('\n');
+            }
+            for (int i = 0; i < prefixes[type].length; i++) {
+                appendRow(seats, type, i, out);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Renders the layout to any destination, such as a file or a socket, in one write.
+     *
+     * @param seats the occupancy of the venue's seats
+     * @param out the destination of the layout
+     * @throws IOException if the layout cannot be written
+     */
+    public void render(SeatMap seats, Appendable out) throws IOException {
+        out.append(render(seats));
+    }
+
+    /**
+     * Renders one row, including its labels and line break.
+     *
+     * @param seats the occupancy of the venue's seats
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @param out the builder to append the row to
+     */
+    public void appendRow(SeatMap seats, int type, int i, StringBuilder out) {
+        out.append(prefixes[type][i]);
+        for (int section = 0; section < 3; section++) {
+            if (section > 0) {
+                out.append(' ');
+            }
+            int run = sections[section];
+            for (int j = sections[section]; j < sections[section + 1]; j++) {
+                if (seats.isBooked(type, i, j)) {
+                    out.append(labels, starts[run], starts[j] - starts[run]);
+                    out.append(BOOKED);
+                    run = j + 1;
+                }
+            }
+            int end = sections[section + 1];
+            out.append(labels, starts[run], starts[end] - starts[run]);
+        }
+        out.append(suffixes[type][i]);
+    }
+
+    /**
+     * Returns the number of rows of a zone.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @return the number of rows
+     */
+    public int getRows(int type) {
+        return prefixes[type].length;
+    }
+}
@@ -0,0 +1,306 @@
+package venue;
+
+import ticket.Ticket;
+import ticket.TicketKey;
+import ticket.TicketStore;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The SeatMap class records which seats of a venue are occupied for a single concert.
+ * Each row of each zone is stored as a packed bitset of longs, one bit per seat,
+ * so checking or marking a seat is a constant-time operation.
+ * Words are updated with compare-and-set, so concurrent sessions can claim seats
+ * without locking and a seat can never be claimed twice.
+ * Every row also has a version that is increased after each change to it,
+ * so rendered rows can be cached until the row changes, and a {@link FreeRunIndex}
+ * that is brought up to date after each change, for finding runs of adjacent free seats.
+ *
+ * @version 1.0
+ */
+public class SeatMap {
+
+    /**
+     * The number of seats addressed by one word of the bitset.
+     */
+    private static final int BITS_PER_WORD = 64;
+
+    /**
+     * The number of seats in a row (left + middle + right).
+     */
+    private final int width;
+
+    /**
+     * The occupancy bitsets, indexed by zone type, row and word.
+     */
+    private final AtomicLongArray[][] occupancy;
+
+    /**
+     * The version of each row, indexed by zone type and row.
+     */
+    private final AtomicIntegerArray[] versions;
+
+    /**
+     * The index of free runs of each row, indexed by zone type and row.
+     */
+    private final FreeRunIndex[][] freeRuns;
+
+    /**
+     * Constructs an empty SeatMap sized from the dimensions of the given venue.
+     *
+     * @param venue the venue whose seats are tracked
+     */
+    public SeatMap(Venue venue) {
+        this.width = venue.getLeft() + venue.getMiddle() + venue.getRight();
+        int words = (width + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        occupancy = new AtomicLongArray[3][];
+        occupancy[0] = new AtomicLongArray[venue.getVip()];
+        occupancy[1] = new AtomicLongArray[venue.getSeating()];
+        occupancy[2] = new AtomicLongArray[venue.getStanding()];
+        versions = new AtomicIntegerArray[3];
+        freeRuns = new FreeRunIndex[3][];
+        for (int type = 0; type < 3; type++) {
+            freeRuns[type] = new FreeRunIndex[occupancy[type].length];
+            for (int i = 0; i < occupancy[type].length; i++) {
+                occupancy[type][i] = new AtomicLongArray(words);
+                freeRuns[type][i] = new FreeRunIndex(width);
+            }
+            versions[type] = new AtomicIntegerArray(occupancy[type].length);
+        }
+    }
+
+    /**
+     * Checks if a specific seat is booked.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @param j the seat index
+     * @return true if the seat is booked, false otherwise
+     */
+    public boolean isBooked(int type, int i, int j) {
+        if (!inRange(type, i, j)) {
+            return false;
+        }
+        return (occupancy[type][i].get(j / BITS_PER_WORD) & (1L << j)) != 0;
+    }
+
+    /**
+     * Marks a specific seat as booked. Seats outside the venue are ignored.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @param j the seat index
+     */
+    public void book(int type, int i, int j) {
+        if (inRange(type, i, j)) {
+            AtomicLongArray row = occupancy[type][i];
+            int word = j / BITS_PER_WORD;
+            long current;
+            do {
+                current = row.get(word);
+            } while (!row.compareAndSet(word, current, current | (1L << j)));
+            versions[type].incrementAndGet(i);
+            reindex(type, i, j, 1);
+        }
+    }
+
+    /**
+     * Atomically claims a contiguous run of free seats in a row.
+     * Either every seat of the run is claimed, or none is and false is returned.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @param j the index of the first seat of the run
+     * @param count the number of seats in the run
+     * @return true if the seats were claimed, false if any of them is taken or outside the row
+     */
+    public boolean reserve(int type, int i, int j, int count) {
+        if (count <= 0 || !inRange(type, i, j) || !inRange(type, i, j + count - 1)) {
+            return false;
+        }
+        AtomicLongArray row = occupancy[type][i];
+        int first = j / BITS_PER_WORD;
+        int last = (j + count - 1) / BITS_PER_WORD;
+        for (int word = first; word <= last; word++) {
+            long mask = mask(word, j, count);
+            long current;
+            do {
+                current = row.get(word);
+                if ((current & mask) != 0) {
+                    // Give back the words already claimed by this run
+                    for (int claimed = first; claimed < word; claimed++) {
+                        clear(row, claimed, mask(claimed, j, count));
+                    }
+                    if (word > first) {
+                        versions[type].incrementAndGet(i);
+                        reindex(type, i, j, count);
+                    }
+                    return false;
+                }
+            } while (!row.compareAndSet(word, current, current | mask));
+        }
+        versions[type].incrementAndGet(i);
+        reindex(type, i, j, count);
+        return true;
+    }
+
+    /**
+     * Releases a contiguous run of seats in a row.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @param j the index of the first seat of the run
+     * @param count the number of seats in the run
+     */
+    public void release(int type, int i, int j, int count) {
+        if (count <= 0 || !inRange(type, i, j) || !inRange(type, i, j + count - 1)) {
+            return;
+        }
+        AtomicLongArray row = occupancy[type][i];
+        for (int word = j / BITS_PER_WORD; word <= (j + count - 1) / BITS_PER_WORD; word++) {
+            clear(row, word, mask(word, j, count));
+        }
+        versions[type].incrementAndGet(i);
+        reindex(type, i, j, count);
+    }
+
+    /**
+     * Returns the version of a row. The version increases after every change to the row,
+     * so a row read after fetching its version is current until the version changes.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @return the version of the row
+     */
+    public int getVersion(int type, int i) {
+        return versions[type].get(i);
+    }
+
+    /**
+     * Returns the index of free runs of a row.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @return the free run index of the row
+     */
+    public FreeRunIndex getFreeRuns(int type, int i) {
+        return freeRuns[type][i];
+    }
+
+    /**
+     * Returns the number of rows in a zone.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @return the number of rows
+     */
+    public int getRows(int type) {
+        return occupancy[type].length;
+    }
+
+    /**
+     * Returns the number of seats in each row.
+     *
+     * @return the number of seats in a row
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Marks the seat of a ticket as booked.
+     *
+     * @param ticket the ticket whose seat is taken
+     */
+    public void book(Ticket ticket) {
+        book(ticket.getZone().ordinal(), ticket.getRowNumber() - 1, ticket.getSeatNumber() - 1);
+    }
+
+    /**
+     * Marks the seats of all given tickets as booked.
+     *
+     * @param tickets the tickets whose seats are taken
+     */
+    public void bookAll(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            book(ticket);
+        }
+    }
+
+    /**
+     * Marks the seats of a range of stored tickets as booked.
+     *
+     * @param tickets the store holding the tickets
+     * @param offset the index of the first ticket
+     * @param count the number of tickets
+     */
+    public void bookAll(TicketStore tickets, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            int key = tickets.getKey(i);
+            book(TicketKey.zone(key).ordinal(), TicketKey.row(key) - 1, TicketKey.seat(key) - 1);
+        }
+    }
+
+    /**
+     * Copies the current state of a run of seats into the row's free run index.
+     * The state is read while holding the index, so whichever change is indexed last
+     * leaves the index matching the bitset, even when changes race.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param i the row index
+     * @param j the index of the first seat of the run
+     * @param count the number of seats in the run
+     */
+    private void reindex(int type, int i, int j, int count) {
+        FreeRunIndex index = freeRuns[type][i];
+        synchronized (index) {
+            for (int seat = j; seat < j + count; seat++) {
+                index.set(seat, isBooked(type, i, seat));
+            }
+        }
+    }
+
+    /**
+     * Returns the bits of a word covered by a run of seats.
+     *
+     * @param word the index of the word
+     * @param j the index of the first seat of the run
+     * @param count the number of seats in the run
+     * @return the mask of the run within the word
+     */
+    private static long mask(int word, int j, int count) {
+        int from = Math.max(j, word * BITS_PER_WORD) - word * BITS_PER_WORD;
+        int to = Math.min(j + count, (word + 1) * BITS_PER_WORD) - word * BITS_PER_WORD;
+        long high = to == BITS_PER_WORD ? -1L : (1L << to) - 1;
+        return high & (-1L << from);
+    }
+
+    /**
+     * Atomically clears bits of a word.
+     *
+     * @param row the row holding the word
+     * @param word the index of the word
+     * @param mask the bits to clear
+     */
+    private static void clear(AtomicLongArray row, int word, long mask) {
+        long current;
+        do {
+            current = row.get(word);
+        } while (!row.compareAndSet(word, current, current & ~mask));
+    }
+
+    /**
+     * Checks whether the given position lies inside the venue.
+     *
+     * @param type the type of the zone
+     * @param i the row index
+     * @param j the seat index
+     * @return true if the position is a seat of the venue
+     */
+    private boolean inRange(int type, int i, int j) {
+        return type >= 0 && type < occupancy.length
+                && i >= 0 && i < occupancy[type].length
+                && j >= 0 && j < width;
+    }
+}
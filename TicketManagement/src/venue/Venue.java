@@ -1,14 +1,14 @@
 package venue;
 
 import ticket.Ticket;
-import utils.Constants;
 
 import java.util.List;
 
 /**
  * The Venue class represents a venue where concerts are held.
  * It includes the number of rows in each zone (VIP, seating, standing) and the number of seats in each section (left, middle, right).
- * It also provides methods to get the total number of seats, print the seating layout, and check if a seat is booked.
+ * It also provides methods to get the total number of seats and print the seating layout from a {@link SeatMap}
+ * through its {@link LayoutRenderer}.
  *
  * @version 1.0
  */
@@ -44,6 +44,11 @@ public class Venue {
      */
     private int right;
 
+    /**
+     * The renderer of the layout, built on first use and dropped when the dimensions change.
+     */
+    private LayoutRenderer renderer;
+
     /**
      * Constructs a new Venue with the specified number of rows and seats in each section.
      *
@@ -78,110 +83,31 @@ public class Venue {
      * @param tickets the list of tickets to check for booked seats
      */
     public void print(List<Ticket> tickets) {
-        for (int i = 0; i < vip; i++) {
-            System.out.print("V" + (i + 1) + " ");
-            for (int j = 0; j < left; j++) {
-                if (booked(i, j, 0, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.print(" ");
-            for (int j = left; j < left + middle; j++) {
-                if (booked(i, j, 0, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.print(" ");
-            for (int j = left + middle; j < left + middle + right; j++) {
-                if (booked(i, j, 0, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.println(" V" + (i + 1));
-        }
-        System.out.print("\n");
-
-        for (int i = 0; i < seating; i++) {
-            System.out.print("S" + (i + 1) + " ");
-            for (int j = 0; j < left; j++) {
-                if (booked(i, j, 1, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.print(" ");
-            for (int j = left; j < left + middle; j++) {
-                if (booked(i, j, 1, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.print(" ");
-            for (int j = left + middle; j < left + middle + right; j++) {
-                if (booked(i, j, 1, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.println(" S" + (i + 1));
-        }
-        System.out.print("\n");
-
-        for (int i = 0; i < standing; i++) {
-            System.out.print("T" + (i + 1) + " ");
-            for (int j = 0; j < left; j++) {
-                if (booked(i, j, 2, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.print(" ");
-            for (int j = left; j < left + middle; j++) {
-                if (booked(i, j, 2, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.print(" ");
-            for (int j = left + middle; j < left + middle + right; j++) {
-                if (booked(i, j, 2, tickets)) {
-                    System.out.print("[X]");
-                } else {
-                    System.out.print("[" + (j + 1) + "]");
-                }
-            }
-            System.out.println(" T" + (i + 1));
-        }
+        SeatMap seats = new SeatMap(this);
+        seats.bookAll(tickets);
+        print(seats);
+    }
+
+    /**
+     * Prints the seating layout of the venue, marking booked seats with [X].
+     * The layout is rendered in full and written to the console in one call.
+     *
+     * @param seats the occupancy of the venue's seats
+     */
+    public void print(SeatMap seats) {
+        System.out.print(getRenderer().render(seats));
     }
 
     /**
-     * Checks if a specific seat is booked.
+     * Returns the renderer of this venue's layout, building it on first use.
      *
-     * @param i the row index
-     * @param j the seat index
-     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
-     * @param tickets the list of tickets to check against
-     * @return true if the seat is booked, false otherwise
-     */
-    private boolean booked(int i, int j, int type, List<Ticket> tickets) {
-        for (Ticket ticket : tickets) {
-            if ((type == 0 && ticket.getZoneType().equals(Constants.VIP)) || (type == 1 && ticket.getZoneType().equals(Constants.SEATING)) || (type == 2 && ticket.getZoneType().equals(Constants.STANDING))) {
-                if (ticket.getRowNumber() == i + 1 && ticket.getSeatNumber() == j + 1)
-                    return true;
-            }
+     * @return the layout renderer
+     */
+    public synchronized LayoutRenderer getRenderer() {
+        if (renderer == null) {
+            renderer = new LayoutRenderer(this);
         }
-        return false;
+        return renderer;
     }
 
     /**
@@ -200,6 +126,7 @@ public class Venue {
      */
     public void setVip(int vip) {
         this.vip = vip;
+        this.renderer = null;
     }
 
     /**
@@ -218,6 +145,16 @@ public class Venue {
      */
     public void setSeating(int seating) {
         this.seating = seating;
+        this.renderer = null;
+    }
+
+    /**
+     * Returns the number of standing rows.
+     *
+     * @return the number of standing rows
+     */
+    public int getStanding() {
+        return standing;
     }
 
     /**
@@ -0,0 +1,233 @@
+package booking;
+
+import concert.Concert;
+import exception.NotFoundException;
+import exception.SeatUnavailableException;
+import utils.ManualClock;
+import venue.SeatMap;
+import venue.Venue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The HoldManagerTest class checks the life of seat holds, driving expiry by hand with a {@link ManualClock}.
+ * The background expiry thread is never started; each test calls {@link HoldManager#expire()} itself.
+ *
+ * @version 1.0
+ */
+public class HoldManagerTest {
+
+    /**
+     * The length of a hold in milliseconds.
+     */
+    private static final long HOLD_MILLIS = 60000;
+
+    /**
+     * The length of a tick of the wheel in milliseconds.
+     */
+    private static final long TICK_MILLIS = 100;
+
+    /**
+     * The venue: one row of 20 seats in each zone.
+     */
+    private static final Venue VENUE = new Venue(1, 1, 1, 5, 10, 5);
+
+    /**
+     * The concert.
+     */
+    private final Concert concert = new Concert("1", "2024-10-01", "1900", "Artist", "MCG",
+            "STANDING:99.0:149.0:99.0:SEATING:199.0:259.0:199.0:VIP:359.0:499.0:359.0");
+
+    /**
+     * The clock driving expiry.
+     */
+    private ManualClock clock;
+
+    /**
+     * The occupancy of the concert's seats.
+     */
+    private SeatMap seatMap;
+
+    /**
+     * The bookings made.
+     */
+    private List<Booking> bookings;
+
+    /**
+     * The engine claiming and booking seats.
+     */
+    private ReservationEngine engine;
+
+    /**
+     * The hold manager under test.
+     */
+    private HoldManager holds;
+
+    /**
+     * Creates an empty concert and a hold manager on a manual clock.
+     */
+    @Before
+    public void setUp() {
+        clock = new ManualClock(0);
+        seatMap = new SeatMap(VENUE);
+        Map<String, SeatMap> seatMaps = new ConcurrentHashMap<>();
+        seatMaps.put(concert.getConcertId(), seatMap);
+        bookings = new ArrayList<>();
+        engine = new ReservationEngine(bookings, new BookingIndex(), seatMaps);
+        holds = new HoldManager(engine, clock, HOLD_MILLIS, TICK_MILLIS, 512);
+    }
+
+    /**
+     * Checks that a hold keeps its seats until it runs out and then frees them.
+     *
+     * @throws Exception if a hold cannot be placed
+     */
+    @Test
+    public void holdExpiresAfterItsTime() throws Exception {
+        SeatHold hold = holds.hold(concert, "1", 1, 1, 3, 4);
+        assertTrue(booked(1, 3, 4));
+
+        clock.advance(HOLD_MILLIS - 1);
+        assertEquals(0, holds.expire());
+        assertNotNull(holds.get(hold.getHoldId()));
+        assertTrue(booked(1, 3, 4));
+
+        clock.advance(TICK_MILLIS);
+        assertEquals(1, holds.expire());
+        assertNull(holds.get(hold.getHoldId()));
+        assertEquals(0, holds.size());
+        assertTrue(free(1, 3, 4));
+        try {
+            holds.confirm(hold.getHoldId(), "1", concert, VENUE, "Customer");
+            fail("an expired hold was confirmed");
+        } catch (NotFoundException e) {
+            // Expected
+        }
+        assertTrue(bookings.isEmpty());
+    }
+
+    /**
+     * Checks that a hold confirmed before it runs out becomes a booking that expiry leaves alone.
+     *
+     * @throws Exception if a hold cannot be placed or confirmed
+     */
+    @Test
+    public void confirmBeforeExpiryKeepsTheSeats() throws Exception {
+        SeatHold hold = holds.hold(concert, "1", 0, 1, 1, 2);
+        clock.advance(HOLD_MILLIS / 2);
+        Booking booking = holds.confirm(hold.getHoldId(), "1", concert, VENUE, "Customer");
+        assertEquals(2, booking.getTicketCount());
+        assertEquals(0, holds.size());
+
+        clock.advance(HOLD_MILLIS);
+        assertEquals(0, holds.expire());
+        assertTrue(booked(0, 1, 2));
+        assertEquals(1, bookings.size());
+    }
+
+    /**
+     * Checks that held seats cannot be booked by anyone else until the hold expires, and then can.
+     *
+     * @throws Exception if a hold or booking that should succeed fails
+     */
+    @Test
+    public void expiryReleasesSeatsForOthers() throws Exception {
+        holds.hold(concert, "1", 2, 1, 10, 5);
+        try {
+            engine.reserve(concert, VENUE, "2", "Other", 2, 1, 12, 2);
+            fail("held seats were booked");
+        } catch (SeatUnavailableException e) {
+            // Expected
+        }
+
+        clock.advance(HOLD_MILLIS + TICK_MILLIS);
+        assertEquals(1, holds.expire());
+        engine.reserve(concert, VENUE, "2", "Other", 2, 1, 12, 2);
+        assertTrue(booked(2, 12, 2));
+        assertTrue(free(2, 10, 2));
+        assertTrue(free(2, 14, 1));
+    }
+
+    /**
+     * Checks that a released hold is not released again when its time would have run out,
+     * which would free seats booked by someone else in the meantime.
+     *
+     * @throws Exception if a hold or booking that should succeed fails
+     */
+    @Test
+    public void releasedHoldDoesNotExpireLater() throws Exception {
+        SeatHold hold = holds.hold(concert, "1", 1, 1, 1, 4);
+        holds.release(hold.getHoldId(), "1", concert.getConcertId());
+        assertTrue(free(1, 1, 4));
+        engine.reserve(concert, VENUE, "2", "Other", 1, 1, 1, 4);
+
+        clock.advance(HOLD_MILLIS + TICK_MILLIS);
+        assertEquals(0, holds.expire());
+        assertTrue(booked(1, 1, 4));
+    }
+
+    /**
+     * Checks that only the customer holding the seats can confirm or release them.
+     *
+     * @throws Exception if a hold cannot be placed
+     */
+    @Test
+    public void otherCustomerCannotTakeTheHold() throws Exception {
+        SeatHold hold = holds.hold(concert, "1", 0, 1, 5, 1);
+        try {
+            holds.release(hold.getHoldId(), "2", concert.getConcertId());
+            fail("another customer released the hold");
+        } catch (NotFoundException e) {
+            // Expected
+        }
+        assertNotNull(holds.get(hold.getHoldId()));
+        assertFalse(free(0, 5, 1));
+    }
+
+    /**
+     * Returns whether every seat of a run in the first row of a zone is booked or held.
+     *
+     * @param type the type of the zone
+     * @param seatNumber the first seat, starting from 1
+     * @param count the number of seats
+     * @return true if all seats are taken
+     */
+    private boolean booked(int type, int seatNumber, int count) {
+        for (int seat = seatNumber; seat < seatNumber + count; seat++) {
+            if (!seatMap.isBooked(type, 0, seat - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether every seat of a run in the first row of a zone is free.
+     *
+     * @param type the type of the zone
+     * @param seatNumber the first seat, starting from 1
+     * @param count the number of seats
+     * @return true if no seat is taken
+     */
+    private boolean free(int type, int seatNumber, int count) {
+        for (int seat = seatNumber; seat < seatNumber + count; seat++) {
+            if (seatMap.isBooked(type, 0, seat - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
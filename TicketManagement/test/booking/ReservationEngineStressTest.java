@@ -0,0 +1,152 @@
+package booking;
+
+import concert.Concert;
+import exception.SeatUnavailableException;
+import ticket.TicketKey;
+import ticket.TicketStore;
+import ticket.Zone;
+import venue.SeatMap;
+import venue.Venue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The ReservationEngineStressTest class books one concert from many threads at once and checks that no seat
+ * is sold twice. The venue is small and its rows are wider than one word of the seat bitset, so attempts
+ * overlap constantly and runs that cross a word boundary exercise the rollback of partly claimed runs.
+ * Some attempts claim seats and give them back, as expired holds do, racing with the bookings.
+ *
+ * @version 1.0
+ */
+public class ReservationEngineStressTest {
+
+    /**
+     * The venue: 6 rows of 100 seats, so each row spans two words of the bitset.
+     */
+    private static final Venue VENUE = new Venue(1, 2, 3, 30, 40, 30);
+
+    /**
+     * The number of threads booking at once.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * The number of attempts of each thread in a round.
+     */
+    private static final int ATTEMPTS = 500;
+
+    /**
+     * The number of rounds, each on an empty concert.
+     */
+    private static final int ROUNDS = 20;
+
+    /**
+     * The longest run of seats requested.
+     */
+    private static final int MAX_RUN = 8;
+
+    /**
+     * Checks that concurrent bookings never share a seat and that the seat map holds exactly the booked seats.
+     *
+     * @throws Exception if a booking thread fails
+     */
+    @Test
+    public void concurrentBookingsNeverShareASeat() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                runRound(pool, round);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Books an empty concert from every thread and checks the result.
+     *
+     * @param pool the booking threads
+     * @param round the number of the round, which seeds the requests
+     * @throws Exception if a booking thread fails
+     */
+    private void runRound(ExecutorService pool, int round) throws Exception {
+        final Concert concert = new Concert("1", "2024-10-01", "1900", "Artist", "MCG",
+                "STANDING:99.0:149.0:99.0:SEATING:199.0:259.0:199.0:VIP:359.0:499.0:359.0");
+        final SeatMap seatMap = new SeatMap(VENUE);
+        Map<String, SeatMap> seatMaps = new ConcurrentHashMap<>();
+        seatMaps.put(concert.getConcertId(), seatMap);
+        List<Booking> bookings = new ArrayList<>();
+        final ReservationEngine engine = new ReservationEngine(bookings, new BookingIndex(), seatMaps);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final Random random = new Random(round * THREADS + t);
+            final String customerId = String.valueOf(t + 1);
+            workers.add(pool.submit(() -> {
+                start.await();
+                int booked = 0;
+                for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                    int type = random.nextInt(3);
+                    int number = 1 + random.nextInt(MAX_RUN);
+                    int row = 1 + random.nextInt(seatMap.getRows(type));
+                    int seat = 1 + random.nextInt(seatMap.getWidth() - number + 1);
+                    try {
+                        if (random.nextInt(4) == 0) {
+                            engine.claim(concert, type, row, seat, number);
+                            engine.release(concert.getConcertId(), type, row, seat, number);
+                        } else {
+                            engine.reserve(concert, VENUE, customerId, "Customer " + customerId, type, row, seat, number);
+                            booked++;
+                        }
+                    } catch (SeatUnavailableException e) {
+                        // Expected whenever the run overlaps seats taken by another thread
+                    }
+                }
+                return booked;
+            }));
+        }
+        start.countDown();
+        int booked = 0;
+        for (Future<Integer> worker : workers) {
+            booked += worker.get(1, TimeUnit.MINUTES);
+        }
+
+        assertEquals("every successful booking is recorded", booked, bookings.size());
+        Set<Integer> sold = new HashSet<>();
+        for (Booking booking : bookings) {
+            TicketStore tickets = booking.getTicketStore();
+            for (int i = booking.getTicketOffset(); i < booking.getTicketOffset() + booking.getTicketCount(); i++) {
+                int key = tickets.getKey(i);
+                assertTrue("seat sold twice: " + TicketKey.zone(key) + " row " + TicketKey.row(key)
+                        + " seat " + TicketKey.seat(key), sold.add(key));
+            }
+        }
+        for (int type = 0; type < 3; type++) {
+            for (int i = 0; i < seatMap.getRows(type); i++) {
+                for (int j = 0; j < seatMap.getWidth(); j++) {
+                    boolean ticketed = sold.contains(TicketKey.pack(Zone.of(type), i + 1, j + 1));
+                    assertEquals("seat map and tickets disagree at zone " + type + " row " + (i + 1) + " seat " + (j + 1),
+                            ticketed, seatMap.isBooked(type, i, j));
+                }
+            }
+        }
+        assertFalse("the round booked seats", sold.isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package concert;
+
+import ticket.TicketStore;
+import venue.Venue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The PriceTableTest class checks that price tables charge every seat number what
+ * the section by section pricing of {@link Concert} charged, including seat numbers outside the row.
+ *
+ * @version 1.0
+ */
+public class PriceTableTest {
+
+    /**
+     * The prices of each zone's left, middle and right sections, as in the concert file.
+     */
+    private static final double[][] PRICES = {{359.0, 499.0, 359.5}, {199.0, 259.0, 199.25}, {99.0, 149.0, 99.75}};
+
+    /**
+     * The concert priced at {@link #PRICES}.
+     */
+    private final Concert concert = new Concert("1", "2024-10-01", "1900", "Artist", "MCG",
+            "STANDING:99.0:149.0:99.75:SEATING:199.0:259.0:199.25:VIP:359.0:499.0:359.5");
+
+    /**
+     * Checks single seats and runs of seats, from before the first seat to past the last, on venues of many shapes.
+     */
+    @Test
+    public void matchesSectionPricing() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            Venue venue = new Venue(1, 1, 1, random.nextInt(10), random.nextInt(20), random.nextInt(10));
+            int width = venue.getLeft() + venue.getMiddle() + venue.getRight();
+            PriceTable table = concert.getPriceTable(venue);
+            for (int type = 0; type < 3; type++) {
+                for (int seat = -3; seat <= width + 3; seat++) {
+                    double expected = sectionPrice(type, seat, venue);
+                    assertEquals(expected, concert.getSeatPrice(type, seat, venue), 0.0);
+                    assertEquals(TicketStore.toCents(expected), table.getCents(type, seat));
+                    for (int count = 1; count <= 5; count++) {
+                        long total = 0;
+                        for (int j = seat; j < seat + count; j++) {
+                            total += TicketStore.toCents(sectionPrice(type, j, venue));
+                        }
+                        assertEquals(total, table.getCents(type, seat, count));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Prices a seat section by section, the way concerts priced seats before price tables.
+     *
+     * @param type the type of the zone (0 for VIP, 1 for seating, 2 for standing)
+     * @param seatNumber the seat number
+     * @param venue the venue
+     * @return the price of the seat
+     */
+    private static double sectionPrice(int type, int seatNumber, Venue venue) {
+        if (seatNumber <= venue.getLeft()) {
+            return PRICES[type][0];
+        } else if (seatNumber <= venue.getLeft() + venue.getMiddle()) {
+            return PRICES[type][1];
+        } else if (seatNumber <= venue.getLeft() + venue.getMiddle() + venue.getRight()) {
+            return PRICES[type][2];
+        }
+        return 0.0;
+    }
+}
@@ -0,0 +1,152 @@
+package file;
+
+import booking.Booking;
+import booking.BookingIndex;
+import ticket.TicketStore;
+import ticket.Zone;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * The BookingSnapshotTest class checks that snapshots read back what was written,
+ * and that damaged snapshots are reported as I/O errors rather than failing part way through.
+ *
+ * @version 1.0
+ */
+public class BookingSnapshotTest {
+
+    /**
+     * The offset of the ticket count in the file header.
+     */
+    private static final int TICKET_COUNT_OFFSET = 12;
+
+    /**
+     * The folder the snapshots are written to.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * The snapshot file, holding two bookings of three tickets in all.
+     */
+    private File snapshot;
+
+    /**
+     * Writes the snapshot.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    @Before
+    public void setUp() throws IOException {
+        TicketStore tickets = new TicketStore();
+        tickets.add(1, 2, 5, Zone.VIP, 35900);
+        tickets.add(2, 2, 6, Zone.VIP, 35900);
+        tickets.add(1, 10, 1, Zone.STANDING, 9900);
+        List<Booking> bookings = Arrays.asList(
+                new Booking("1", "1", "Customer", "7", 2, tickets, 0, 2),
+                new Booking("2", "2", "Other", "7", 1, tickets, 2, 1));
+        snapshot = folder.newFile("bookings.bin");
+        BookingSnapshot.write(snapshot.getPath(), bookings);
+    }
+
+    /**
+     * Checks that the bookings and their tickets are read back as written.
+     *
+     * @throws IOException if the snapshot cannot be read
+     */
+    @Test
+    public void readsBackWhatWasWritten() throws IOException {
+        List<Booking> bookings = BookingSnapshot.read(snapshot.getPath(), new BookingIndex());
+        assertEquals(2, bookings.size());
+        assertEquals("Customer", bookings.get(0).getCustomerName());
+        assertEquals(2, bookings.get(0).getTicketCount());
+        assertEquals(71800, bookings.get(0).getTotalCents());
+        assertEquals("2", bookings.get(1).getCustomerId());
+        assertEquals(Zone.STANDING, bookings.get(1).getTicketStore().getZone(bookings.get(1).getTicketOffset()));
+        assertEquals(9900, bookings.get(1).getTotalCents());
+    }
+
+    /**
+     * Checks that a ticket count whose ticket records would overflow the offset of the booking table is rejected.
+     *
+     * @throws IOException if the snapshot cannot be changed
+     */
+    @Test
+    public void overflowingTicketCountIsRejected() throws IOException {
+        writeInt(TICKET_COUNT_OFFSET, 0x7000000);
+        assertInvalid();
+    }
+
+    /**
+     * Checks that a negative ticket count is rejected.
+     *
+     * @throws IOException if the snapshot cannot be changed
+     */
+    @Test
+    public void negativeTicketCountIsRejected() throws IOException {
+        writeInt(TICKET_COUNT_OFFSET, -1);
+        assertInvalid();
+    }
+
+    /**
+     * Checks that a booking claiming more tickets than the file holds is rejected.
+     *
+     * @throws IOException if the snapshot cannot be changed
+     */
+    @Test
+    public void bookingWithTooManyTicketsIsRejected() throws IOException {
+        writeInt(16 + 3 * 20 + 4, 4);
+        assertInvalid();
+    }
+
+    /**
+     * Checks that a snapshot cut off in its booking table is rejected.
+     *
+     * @throws IOException if the snapshot cannot be changed
+     */
+    @Test
+    public void truncatedSnapshotIsRejected() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        assertInvalid();
+    }
+
+    /**
+     * Overwrites a number in the snapshot.
+     *
+     * @param offset the offset of the number
+     * @param value the new value
+     * @throws IOException if the snapshot cannot be changed
+     */
+    private void writeInt(long offset, int value) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            file.seek(offset);
+            file.writeInt(value);
+        }
+    }
+
+    /**
+     * Checks that reading the snapshot fails with an I/O error.
+     */
+    private void assertInvalid() {
+        try {
+            BookingSnapshot.read(snapshot.getPath(), new BookingIndex());
+            fail("a damaged snapshot was read");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+}
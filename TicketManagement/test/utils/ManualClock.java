@@ -0,0 +1,41 @@
+package utils;
+
+/**
+ * The ManualClock class is a {@link Clock} that only moves when a test advances it,
+ * so anything that expires can be checked at exact times without waiting.
+ *
+ * @version 1.0
+ */
+public class ManualClock implements Clock {
+
+    /**
+     * The current time in milliseconds.
+     */
+    private long millis;
+
+    /**
+     * Constructs a ManualClock.
+     *
+     * @param millis the starting time in milliseconds
+     */
+    public ManualClock(long millis) {
+        this.millis = millis;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long millis() {
+        return millis;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param deltaMillis the number of milliseconds to move by
+     */
+    public synchronized void advance(long deltaMillis) {
+        millis += deltaMillis;
+    }
+}
@@ -0,0 +1,100 @@
+package utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The TimingWheelTest class checks when timeouts fire, driving the wheel with a {@link ManualClock}.
+ *
+ * @version 1.0
+ */
+public class TimingWheelTest {
+
+    /**
+     * The clock driving the wheel.
+     */
+    private ManualClock clock;
+
+    /**
+     * A wheel of 8 ticks of 10 ms.
+     */
+    private TimingWheel<String> wheel;
+
+    /**
+     * Creates the clock and the wheel.
+     */
+    @Before
+    public void setUp() {
+        clock = new ManualClock(1000);
+        wheel = new TimingWheel<>(clock, 10, 8);
+    }
+
+    /**
+     * Checks that a timeout does not fire before its deadline and fires within a tick after it.
+     */
+    @Test
+    public void firesAtFirstTickAfterDeadline() {
+        wheel.schedule("a", 25);
+        clock.advance(24);
+        assertEquals(Collections.emptyList(), wheel.advance());
+        clock.advance(1);
+        // The deadline falls inside the third tick, so the timeout waits for that tick to end
+        assertEquals(Collections.emptyList(), wheel.advance());
+        clock.advance(5);
+        assertEquals(Collections.singletonList("a"), wheel.advance());
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Checks that a cancelled timeout never fires.
+     */
+    @Test
+    public void cancelledTimeoutDoesNotFire() {
+        TimingWheel.Timeout<String> timeout = wheel.schedule("a", 20);
+        wheel.schedule("b", 20);
+        assertTrue(wheel.cancel(timeout));
+        assertFalse(wheel.cancel(timeout));
+        clock.advance(20);
+        assertEquals(Collections.singletonList("b"), wheel.advance());
+    }
+
+    /**
+     * Checks that a timeout further away than one turn of the wheel waits for its own turn.
+     */
+    @Test
+    public void timeoutBeyondOneTurnWaitsForItsTurn() {
+        wheel.schedule("near", 10);
+        wheel.schedule("far", 10 + 8 * 10);
+        clock.advance(10);
+        assertEquals(Collections.singletonList("near"), wheel.advance());
+        clock.advance(8 * 10 - 1);
+        assertEquals(Collections.emptyList(), wheel.advance());
+        clock.advance(1);
+        assertEquals(Collections.singletonList("far"), wheel.advance());
+    }
+
+    /**
+     * Checks that every due timeout fires when more than a whole turn passes between advances.
+     */
+    @Test
+    public void longPauseFiresEveryDueTimeout() {
+        for (int i = 0; i < 20; i++) {
+            wheel.schedule("t" + i, i * 10);
+        }
+        wheel.schedule("later", 500);
+        clock.advance(200);
+        List<String> expired = wheel.advance();
+        assertEquals(20, expired.size());
+        assertFalse(expired.contains("later"));
+        assertEquals(1, wheel.size());
+        clock.advance(300);
+        assertEquals(Collections.singletonList("later"), wheel.advance());
+    }
+}